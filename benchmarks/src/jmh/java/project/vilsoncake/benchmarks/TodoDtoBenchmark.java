@@ -0,0 +1,46 @@
+package project.vilsoncake.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoDto;
+import project.vilsoncake.todoservice.dto.TodoRequest;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoDtoBenchmark {
+
+    private TodoDocument todoDocument;
+    private TodoRequest todoRequest;
+
+    @Setup
+    public void setUp() {
+        todoDocument = new TodoDocument();
+        todoDocument.setId(UUID.randomUUID());
+        todoDocument.setTitle("Buy milk");
+        todoDocument.setCategory("Home");
+        todoDocument.setText("Two bottles of oat milk from the store near the office");
+        todoDocument.setCreatedAt(new Date());
+        todoDocument.setCompleted(false);
+        todoDocument.setOwner("testuser");
+
+        todoRequest = new TodoRequest("  Buy milk  ", "  Home  ", "Two bottles of oat milk from the store near the office");
+    }
+
+    @Benchmark
+    public TodoDto fromDocument() {
+        return TodoDto.fromDocument(todoDocument);
+    }
+
+    @Benchmark
+    public TodoDto fromRequest() {
+        return TodoDto.fromRequest(todoRequest);
+    }
+}
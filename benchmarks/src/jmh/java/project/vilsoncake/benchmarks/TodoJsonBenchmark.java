@@ -0,0 +1,60 @@
+package project.vilsoncake.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import project.vilsoncake.todoservice.dto.TodoDto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoJsonBenchmark {
+
+    private static final TypeReference<List<TodoDto>> TODO_LIST_TYPE = new TypeReference<>() {};
+
+    @Param({"10", "100"})
+    private int todosCount;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<TodoDto> todos;
+    private byte[] serializedTodos;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        todos = new ArrayList<>(todosCount);
+
+        for (int i = 0; i < todosCount; i++) {
+            todos.add(new TodoDto(
+                    UUID.randomUUID(),
+                    String.format("Buy milk (%s)", i),
+                    "Home",
+                    "Two bottles of oat milk from the store near the office",
+                    i % 2 == 0,
+                    null
+            ));
+        }
+
+        serializedTodos = objectMapper.writeValueAsBytes(todos);
+    }
+
+    @Benchmark
+    public byte[] serializeTodos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(todos);
+    }
+
+    @Benchmark
+    public List<TodoDto> deserializeTodos() throws IOException {
+        return objectMapper.readValue(serializedTodos, TODO_LIST_TYPE);
+    }
+}
@@ -0,0 +1,48 @@
+package project.vilsoncake.benchmarks;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import project.vilsoncake.todoservice.dto.TodoRequest;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoRequestValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private TodoRequest validTodoRequest;
+    private TodoRequest invalidTodoRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validTodoRequest = new TodoRequest("Buy milk", "Home", "Two bottles of oat milk from the store near the office");
+        invalidTodoRequest = new TodoRequest("Buy milk 2", "Home 2", "");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TodoRequest>> validateValidRequest() {
+        return validator.validate(validTodoRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TodoRequest>> validateInvalidRequest() {
+        return validator.validate(invalidTodoRequest);
+    }
+}
@@ -0,0 +1,42 @@
+package project.vilsoncake.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.utils.TodoUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoUtilsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int todosCount;
+
+    private final TodoUtils todoUtils = new TodoUtils();
+    private List<TodoDocument> todoDocuments;
+
+    @Setup
+    public void setUp() {
+        todoDocuments = new ArrayList<>(todosCount);
+
+        for (int i = 0; i < todosCount; i++) {
+            TodoDocument todoDocument = new TodoDocument();
+            todoDocument.setId(UUID.randomUUID());
+            todoDocument.setTitle(i == 0 ? "Buy milk" : String.format("Buy milk (%s)", i));
+            todoDocuments.add(todoDocument);
+        }
+    }
+
+    @Benchmark
+    public int getDuplicateCount() {
+        return todoUtils.getDuplicateCount(todoDocuments);
+    }
+}
@@ -0,0 +1,40 @@
+package project.vilsoncake.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import project.vilsoncake.todoservice.dto.UserEventDto;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserEventJsonBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private UserEventDto userEvent;
+    private byte[] serializedUserEvent;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        userEvent = new UserEventDto("change-username", "testuser", Map.of("newUsername", "newtestuser"));
+        serializedUserEvent = objectMapper.writeValueAsBytes(userEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeUserEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userEvent);
+    }
+
+    @Benchmark
+    public UserEventDto deserializeUserEvent() throws IOException {
+        return objectMapper.readValue(serializedUserEvent, UserEventDto.class);
+    }
+}
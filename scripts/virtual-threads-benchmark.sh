@@ -0,0 +1,31 @@
+#!/bin/sh
+# Compares request throughput and latency of a service started with
+# VIRTUAL_THREADS_ENABLED=false and then with VIRTUAL_THREADS_ENABLED=true.
+#
+# Usage: scripts/virtual-threads-benchmark.sh <platform|virtual> <url> [access-token]
+# Requires hey (https://github.com/rakyll/hey).
+
+set -e
+
+MODE=$1
+URL=$2
+TOKEN=$3
+REQUESTS=${REQUESTS:-20000}
+CONCURRENCY_LEVELS=${CONCURRENCY_LEVELS:-"50 200 800 2000"}
+RESULTS_DIR=${RESULTS_DIR:-build/virtual-threads-benchmark}
+
+if [ -z "$MODE" ] || [ -z "$URL" ]; then
+    echo "Usage: $0 <platform|virtual> <url> [access-token]"
+    exit 1
+fi
+
+mkdir -p "$RESULTS_DIR"
+
+for CONCURRENCY in $CONCURRENCY_LEVELS; do
+    OUTPUT="$RESULTS_DIR/$MODE-c$CONCURRENCY.txt"
+    echo "$MODE: $REQUESTS requests, concurrency $CONCURRENCY -> $OUTPUT"
+    hey -n "$REQUESTS" -c "$CONCURRENCY" \
+        ${TOKEN:+-H "Authorization: Bearer $TOKEN"} \
+        "$URL" > "$OUTPUT"
+    sed -n '/Summary:/,/Response time histogram:/p' "$OUTPUT"
+done
@@ -5,48 +5,142 @@ import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 import co.elastic.clients.util.ContentType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.RequestLine;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.protocol.HttpCoreContext;
 import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
+import org.elasticsearch.client.sniff.SniffOnFailureListener;
+import org.elasticsearch.client.sniff.Sniffer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
+import org.springframework.data.elasticsearch.repository.config.EnableReactiveElasticsearchRepositories;
 import project.vilsoncake.todoservice.property.ElasticsearchProperties;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static project.vilsoncake.todoservice.constant.MetricConst.*;
+import static project.vilsoncake.todoservice.constant.StorageConst.STORAGE_ELASTICSEARCH;
 
 @Configuration
+@ConditionalOnProperty(prefix = "todo", name = "storage", havingValue = STORAGE_ELASTICSEARCH, matchIfMissing = true)
 @EnableElasticsearchRepositories
+@EnableReactiveElasticsearchRepositories
 @RequiredArgsConstructor
 public class ElasticsearchConfig {
 
     private final ElasticsearchProperties elasticsearchProperties;
 
     @Bean
-    public RestClient getRestClient() {
-        return RestClient.builder(new HttpHost(elasticsearchProperties.getHost(), elasticsearchProperties.getPort()))
+    public PoolingNHttpClientConnectionManager getConnectionManager(MeterRegistry meterRegistry) throws IOReactorException {
+        PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(
+                new DefaultConnectingIOReactor(IOReactorConfig.custom()
+                        .setSoKeepAlive(true)
+                        .setConnectTimeout(elasticsearchProperties.getConnectTimeoutMs())
+                        .setSoTimeout(elasticsearchProperties.getSocketTimeoutMs())
+                        .build())
+        );
+        connectionManager.setMaxTotal(elasticsearchProperties.getMaxConnTotal());
+        connectionManager.setDefaultMaxPerRoute(elasticsearchProperties.getMaxConnPerRoute());
+
+        Gauge.builder(ELASTICSEARCH_POOL_LEASED, connectionManager, manager -> manager.getTotalStats().getLeased())
+                .register(meterRegistry);
+        Gauge.builder(ELASTICSEARCH_POOL_AVAILABLE, connectionManager, manager -> manager.getTotalStats().getAvailable())
+                .register(meterRegistry);
+        Gauge.builder(ELASTICSEARCH_POOL_PENDING, connectionManager, manager -> manager.getTotalStats().getPending())
+                .register(meterRegistry);
+        Gauge.builder(ELASTICSEARCH_POOL_MAX, connectionManager, manager -> manager.getTotalStats().getMax())
+                .register(meterRegistry);
+
+        return connectionManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "elastic", name = "sniffer-enabled", havingValue = "true")
+    public SniffOnFailureListener getSniffOnFailureListener() {
+        return new SniffOnFailureListener();
+    }
+
+    @Bean
+    public RestClient getRestClient(
+            PoolingNHttpClientConnectionManager connectionManager,
+            ObjectProvider<SniffOnFailureListener> sniffOnFailureListener,
+            MeterRegistry meterRegistry
+    ) {
+        RestClientBuilder restClientBuilder = RestClient.builder(new HttpHost(elasticsearchProperties.getHost(), elasticsearchProperties.getPort()));
+        sniffOnFailureListener.ifAvailable(restClientBuilder::setFailureListener);
+
+        return restClientBuilder
+                .setCompressionEnabled(elasticsearchProperties.isCompressionEnabled())
+                .setRequestConfigCallback(requestConfigBuilder -> requestConfigBuilder
+                        .setConnectTimeout(elasticsearchProperties.getConnectTimeoutMs())
+                        .setSocketTimeout(elasticsearchProperties.getSocketTimeoutMs())
+                        .setConnectionRequestTimeout(elasticsearchProperties.getConnectionRequestTimeoutMs()))
                 .setHttpClientConfigCallback(httpClientBuilder -> {
+                    httpClientBuilder.setConnectionManager(connectionManager);
+                    httpClientBuilder.setKeepAliveStrategy((response, context) -> elasticsearchProperties.getKeepAliveMs());
                     httpClientBuilder.disableAuthCaching();
                     httpClientBuilder.setDefaultHeaders(List.of(
                             new BasicHeader(
                                     HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON)));
+                    httpClientBuilder.addInterceptorFirst((HttpRequestInterceptor)
+                            (request, context) ->
+                                    context.setAttribute(ELASTICSEARCH_REQUEST_START_ATTRIBUTE, System.nanoTime()));
                     httpClientBuilder.addInterceptorLast((HttpResponseInterceptor)
                             (response, context) ->
                                     response.addHeader("X-Elastic-Product", "Elasticsearch"));
+                    httpClientBuilder.addInterceptorLast((HttpResponseInterceptor)
+                            (response, context) -> {
+                                Object start = context.getAttribute(ELASTICSEARCH_REQUEST_START_ATTRIBUTE);
+                                if (start == null) {
+                                    return;
+                                }
+                                RequestLine requestLine = HttpCoreContext.adapt(context).getRequest().getRequestLine();
+                                Timer.builder(ELASTICSEARCH_REQUESTS)
+                                        .tag("method", requestLine.getMethod())
+                                        .tag("status", String.valueOf(response.getStatusLine().getStatusCode()))
+                                        .publishPercentileHistogram()
+                                        .register(meterRegistry)
+                                        .record(System.nanoTime() - (long) start, TimeUnit.NANOSECONDS);
+                            });
                     return httpClientBuilder;
                 }).build();
     }
 
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "elastic", name = "sniffer-enabled", havingValue = "true")
+    public Sniffer getSniffer(RestClient restClient, SniffOnFailureListener sniffOnFailureListener) {
+        Sniffer sniffer = Sniffer.builder(restClient)
+                .setSniffIntervalMillis(elasticsearchProperties.getSnifferIntervalMs())
+                .setSniffAfterFailureDelayMillis(elasticsearchProperties.getSnifferDelayAfterFailureMs())
+                .build();
+        sniffOnFailureListener.setSniffer(sniffer);
+        return sniffer;
+    }
+
     @Bean
-    public ElasticsearchTransport getElasticsearchTransport() {
-        return new RestClientTransport(getRestClient(), new JacksonJsonpMapper());
+    public ElasticsearchTransport getElasticsearchTransport(RestClient restClient) {
+        return new RestClientTransport(restClient, new JacksonJsonpMapper());
     }
 
     @Bean
-    public ElasticsearchClient getElasticsearchClient() {
-        return new ElasticsearchClient(getElasticsearchTransport());
+    public ElasticsearchClient getElasticsearchClient(ElasticsearchTransport elasticsearchTransport) {
+        return new ElasticsearchClient(elasticsearchTransport);
     }
 }
@@ -0,0 +1,39 @@
+package project.vilsoncake.todoservice.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import project.vilsoncake.todoservice.property.TodoProperties;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@RequiredArgsConstructor
+public class ImportConfig {
+
+    private final TodoProperties todoProperties;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService todoImportExecutor() {
+        int concurrency = todoProperties.getImportConcurrency();
+        return new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(concurrency),
+                new CustomizableThreadFactory("todo-import-"),
+                (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Todo import executor has been shut down");
+                    }
+                    task.run();
+                }
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package project.vilsoncake.todoservice.config;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import project.vilsoncake.todoservice.property.KafkaProperties;
+
+@Configuration
+@RequiredArgsConstructor
+public class KafkaTopicConfig {
+
+    private final KafkaProperties kafkaProperties;
+
+    @Bean
+    public NewTopic cacheInvalidationTopic() {
+        return new NewTopic(
+                kafkaProperties.getCacheInvalidationTopicName(),
+                kafkaProperties.getCacheInvalidationPartitionsCount(),
+                kafkaProperties.getCacheInvalidationReplicationFactor()
+        );
+    }
+}
@@ -1,7 +1,9 @@
 package project.vilsoncake.todoservice.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -11,11 +13,18 @@ import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.session.RegisterSessionAuthenticationStrategy;
 import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import project.vilsoncake.todoservice.property.TodoProperties;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final TodoProperties todoProperties;
+
     @Bean
     protected SessionAuthenticationStrategy sessionAuthenticationStrategy() {
         return new RegisterSessionAuthenticationStrategy(new SessionRegistryImpl());
@@ -23,10 +32,17 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain SecurityFilterChain(HttpSecurity http) throws Exception {
+        List<IpAddressMatcher> metricsAddressMatchers = todoProperties.getMetricsAllowedAddresses().stream()
+                .map(IpAddressMatcher::new)
+                .toList();
+
         http
                 .csrf(AbstractHttpConfigurer::disable);
         http.authorizeHttpRequests(auth -> auth
-                .requestMatchers("/todos/test").permitAll()
+                .requestMatchers("/todos/test", "/actuator/health").permitAll()
+                .requestMatchers("/actuator/prometheus").access((authentication, context) -> new AuthorizationDecision(
+                        metricsAddressMatchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest()))
+                ))
                 .anyRequest()
                 .authenticated()
         );
@@ -0,0 +1,7 @@
+package project.vilsoncake.todoservice.constant;
+
+public class CacheConst {
+    public static final String TODO_CACHE_NAME = "todos";
+    public static final String CACHE_TYPE_FILTER = "filter";
+    public static final String CACHE_TYPE_CATEGORY = "category";
+}
@@ -0,0 +1,26 @@
+package project.vilsoncake.todoservice.constant;
+
+public class IndexConst {
+    public static final String TODO_INDEX = "todo";
+    public static final String TODO_INDEX_TEMPLATE = "todo";
+    public static final String TODO_BACKING_INDEX_PATTERN = "todos-*";
+    public static final String TODO_FIRST_BACKING_INDEX = "<todos-{now/d}-000001>";
+    public static final String TODO_REINDEX_POLL_TIMEOUT = "10s";
+    public static final String[] TODO_SOURCE_FIELDS = {"title", "category", "text", "completed"};
+    public static final String[] TODO_HIGHLIGHT_SOURCE_FIELDS = {"title", "category", "completed"};
+    public static final String[] TODO_SUGGEST_SOURCE_FIELDS = {"title"};
+    public static final String[] TODO_SUGGEST_FIELDS = {"title.suggest", "title.suggest._2gram", "title.suggest._3gram"};
+    public static final String STATS_CATEGORIES_AGGREGATION = "categories";
+    public static final String STATS_COMPLETED_AGGREGATION = "completed";
+    public static final String HIGHLIGHT_PRE_TAG = "<em>";
+    public static final String HIGHLIGHT_POST_TAG = "</em>";
+    public static final int HIGHLIGHT_FRAGMENT_SIZE = 150;
+    public static final int HIGHLIGHT_NUMBER_OF_FRAGMENTS = 3;
+    public static final String TITLE_SEQUENCE_INDEX = "todo-title-sequence";
+    public static final String TITLE_SEQUENCE_ID_PATTERN = "%s:%s";
+    public static final String TITLE_SEQUENCE_ID_DIGEST_ALGORITHM = "SHA-256";
+    public static final String TITLE_SEQUENCE_RESERVE_SCRIPT = "if (ctx.op == 'create') { if (params.containsKey('offset')) { ctx._source.count = params.offset + params.count } else { ctx.op = 'none' } } else { ctx._source.count += params.count }";
+    public static final int TITLE_SEQUENCE_SEED_LIMIT = 10_000;
+    public static final String TASK_INDEX = "todo-task";
+    public static final String TOGGLE_COMPLETED_SCRIPT = "ctx._source.completed = !ctx._source.completed";
+}
@@ -4,6 +4,10 @@ public class MessageConst {
     public static final String TITLE_NOT_VALID_MESSAGE = "Title not valid, can only contain letters and a space";
     public static final String CATEGORY_NOT_VALID_MESSAGE = "Category not valid, can only contain letters and a space";
     public static final String TEXT_EMPTY_MESSAGE = "Text is a mandatory";
+    public static final String BATCH_EMPTY_MESSAGE = "Batch must contain at least one todo";
+    public static final String BATCH_ITEM_EMPTY_MESSAGE = "Todo is a mandatory";
+    public static final String BATCH_TOO_LARGE_MESSAGE = "Batch can contain at most %s todos";
+    public static final String IMPORT_LINE_NOT_VALID_MESSAGE = "Line is not a valid todo JSON object";
     public static final String FILTER_ALL_TODOS = "all";
     public static final String FILTER_ONLY_COMPLETED_TODOS = "only-completed";
     public static final String FILTER_ONLY_NOT_COMPLETED_TODOS = "only-not-completed";
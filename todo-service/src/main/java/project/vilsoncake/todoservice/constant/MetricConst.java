@@ -0,0 +1,40 @@
+package project.vilsoncake.todoservice.constant;
+
+public class MetricConst {
+    public static final String ELASTICSEARCH_POOL_LEASED = "elasticsearch.client.pool.leased";
+    public static final String ELASTICSEARCH_POOL_AVAILABLE = "elasticsearch.client.pool.available";
+    public static final String ELASTICSEARCH_POOL_PENDING = "elasticsearch.client.pool.pending";
+    public static final String ELASTICSEARCH_POOL_MAX = "elasticsearch.client.pool.max";
+    public static final String ELASTICSEARCH_REQUESTS = "elasticsearch.client.requests";
+    public static final String ELASTICSEARCH_REQUEST_START_ATTRIBUTE = "elasticsearch.request.start";
+    public static final String TODO_WRITE_BEHIND_QUEUE_SIZE = "todo.write-behind.queue.size";
+    public static final String TODO_SERVICE_REQUESTS = "todo.service.requests";
+    public static final String ELASTICSEARCH_OPERATIONS = "todo.elasticsearch.operations";
+    public static final double[] TIMER_PERCENTILES = {0.5, 0.95, 0.99};
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_CLASS = "class";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_EXCEPTION = "exception";
+    public static final String TAG_VALUE_NONE = "none";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_ADD_BATCH = "add-batch";
+    public static final String OPERATION_TITLE_SEQUENCE = "title-sequence";
+    public static final String OPERATION_FIND_BY_TITLE = "find-by-title";
+    public static final String OPERATION_FIND_BY_ID = "find-by-id";
+    public static final String OPERATION_TOGGLE = "toggle";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String OPERATION_SEARCH = "search";
+    public static final String OPERATION_SUGGEST = "suggest";
+    public static final String OPERATION_LIST_BY_FILTER = "list-by-filter";
+    public static final String OPERATION_LIST_BY_CATEGORY = "list-by-category";
+    public static final String OPERATION_STATS = "stats";
+    public static final String OPERATION_EXPORT = "export";
+    public static final String OPERATION_OPEN_POINT_IN_TIME = "open-point-in-time";
+    public static final String OPERATION_CLOSE_POINT_IN_TIME = "close-point-in-time";
+    public static final String OPERATION_CHANGE_OWNER = "change-owner";
+    public static final String OPERATION_REMOVE_OWNER = "remove-owner";
+    public static final String OPERATION_REFRESH = "refresh";
+}
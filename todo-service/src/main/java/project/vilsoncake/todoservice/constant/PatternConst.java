@@ -6,4 +6,6 @@ public class PatternConst {
     public static final String REGEX_TODO_TITLE_DUPLICATE_PATTERN = " \\((\\d+)\\)";
     public static final String REGEX_TITLE_VALIDATION_PATTERN = "^[a-zA-Z\\s]+$";
     public static final String REGEX_CATEGORY_VALIDATION_PATTERN = "^[a-zA-Z\\s]+$";
+    public static final String REGEX_TOKEN_SEPARATOR_PATTERN = "[^\\p{L}\\p{N}]+";
+    public static final String REGEX_TOKEN_PATTERN = "[\\p{L}\\p{N}]+";
 }
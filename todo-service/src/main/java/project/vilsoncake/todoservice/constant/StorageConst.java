@@ -0,0 +1,6 @@
+package project.vilsoncake.todoservice.constant;
+
+public class StorageConst {
+    public static final String STORAGE_ELASTICSEARCH = "elasticsearch";
+    public static final String STORAGE_IN_MEMORY = "in-memory";
+}
@@ -0,0 +1,13 @@
+package project.vilsoncake.todoservice.constant;
+
+public class TaskConst {
+    public static final String TASK_TYPE_CHANGE_OWNER = "change-owner";
+    public static final String TASK_TYPE_REMOVE_OWNER = "remove-owner";
+    public static final String TASK_STATE_PENDING = "pending";
+    public static final String TASK_STATE_RUNNING = "running";
+    public static final String TASK_STATE_COMPLETED = "completed";
+    public static final String TASK_STATE_FAILED = "failed";
+    public static final String TASK_ID_PATTERN = "%s:%s:%s";
+    public static final String DESTINATION_ROUTING_PATTERN = "=%s";
+    public static final String CHANGE_OWNER_SCRIPT = "ctx._source.owner = params.newOwner";
+}
@@ -6,8 +6,12 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import project.vilsoncake.todoservice.exception.IncorrectTodoBatchException;
+import project.vilsoncake.todoservice.exception.IncorrectTodoCursorException;
 import project.vilsoncake.todoservice.exception.IncorrectTodoFilterException;
+import project.vilsoncake.todoservice.exception.TodoConflictException;
 import project.vilsoncake.todoservice.exception.TodoNotFoundException;
+import project.vilsoncake.todoservice.exception.TodoWriteRejectedException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -32,9 +36,33 @@ public class ErrorHandlerController {
         return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> todoConflictException(TodoConflictException exception) {
+        Map<String, String> body = Map.of("message", exception.getMessage());
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> todoWriteRejectedException(TodoWriteRejectedException exception) {
+        Map<String, String> body = Map.of("message", exception.getMessage());
+        return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Map<String, String>> incorrectTodoFilterException(IncorrectTodoFilterException exception) {
         Map<String, String> body = Map.of("message", exception.getMessage());
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> incorrectTodoBatchException(IncorrectTodoBatchException exception) {
+        Map<String, String> body = Map.of("message", exception.getMessage());
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> incorrectTodoCursorException(IncorrectTodoCursorException exception) {
+        Map<String, String> body = Map.of("message", exception.getMessage());
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
 }
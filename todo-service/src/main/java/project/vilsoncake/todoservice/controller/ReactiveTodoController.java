@@ -0,0 +1,72 @@
+package project.vilsoncake.todoservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+import project.vilsoncake.todoservice.dto.TodoPageDto;
+import project.vilsoncake.todoservice.service.ReactiveTodoService;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/reactive/todos")
+@ConditionalOnProperty(prefix = "todo", name = "reactive-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveTodoController {
+
+    private final ReactiveTodoService reactiveTodoService;
+
+    @GetMapping
+    public Mono<ResponseEntity<TodoPageDto>> getAllUserTodos(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(name = "filter", required = false, defaultValue = "all") String filter,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "5") int size
+    ) {
+        return reactiveTodoService.getAllUserTodosByFilter(jwt, filter, PageRequest.of(page, size))
+                .collectList()
+                .map(todos -> ResponseEntity.ok(new TodoPageDto(todos, null)));
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<TodoPageDto>> searchTodos(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(name = "s") String searchString,
+            @RequestParam(name = "highlight", defaultValue = "false") boolean highlight,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "5") int size
+    ) {
+        return reactiveTodoService.searchTodos(jwt, searchString, highlight, PageRequest.of(page, size))
+                .collectList()
+                .map(todos -> ResponseEntity.ok(new TodoPageDto(todos, null)));
+    }
+
+    @GetMapping("/suggest")
+    public Mono<ResponseEntity<Map<String, List<String>>>> suggestTodoTitles(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(name = "prefix") String prefix,
+            @RequestParam(name = "size", defaultValue = "5") int size
+    ) {
+        return reactiveTodoService.suggestTodoTitles(jwt, prefix, size)
+                .collectList()
+                .map(suggestions -> ResponseEntity.ok(Map.of("suggestions", suggestions)));
+    }
+
+    @GetMapping("/{category}")
+    public Mono<ResponseEntity<TodoPageDto>> getAllUserTodosByCategory(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable String category,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "5") int size
+    ) {
+        return reactiveTodoService.getAllUserTodosByCategory(jwt, category, PageRequest.of(page, size))
+                .collectList()
+                .map(todos -> ResponseEntity.ok(new TodoPageDto(todos, null)));
+    }
+}
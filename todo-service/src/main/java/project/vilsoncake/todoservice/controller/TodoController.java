@@ -1,19 +1,31 @@
 package project.vilsoncake.todoservice.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import project.vilsoncake.todoservice.dto.TodoBatchItemDto;
 import project.vilsoncake.todoservice.dto.TodoDto;
+import project.vilsoncake.todoservice.dto.TodoPageDto;
 import project.vilsoncake.todoservice.dto.TodoRequest;
+import project.vilsoncake.todoservice.dto.TodoStatsDto;
+import project.vilsoncake.todoservice.dto.TodoTaskDto;
+import project.vilsoncake.todoservice.property.TodoProperties;
 import project.vilsoncake.todoservice.service.TodoService;
+import project.vilsoncake.todoservice.service.TodoTaskService;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/todos")
@@ -21,6 +33,8 @@ import java.util.Map;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoTaskService todoTaskService;
+    private final TodoProperties todoProperties;
 
     @PostMapping
     public ResponseEntity<Map<String, String>> addTodo(
@@ -29,38 +43,111 @@ public class TodoController {
     ) {
         return new ResponseEntity<>(
                 Map.of("message", String.format("Todo \"%s\" has been added", todoService.addTodo(jwt, todoRequest).getTitle())),
-                HttpStatus.CREATED
+                writeStatus(HttpStatus.CREATED)
         );
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, List<TodoBatchItemDto>>> addTodos(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestBody List<TodoRequest> todoRequests
+    ) {
+        List<TodoBatchItemDto> results = todoService.addTodos(jwt, todoRequests);
+        boolean allCreated = results.stream().allMatch(result -> result.getStatus() == HttpStatus.CREATED.value());
+
+        return new ResponseEntity<>(
+                Map.of("results", results),
+                allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS
+        );
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importTodos(
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest request
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> todoService.importTodos(jwt, request.getInputStream(), outputStream));
+    }
+
     @GetMapping
-    public ResponseEntity<Map<String, List<TodoDto>>> getAllUserTodos(
+    public ResponseEntity<TodoPageDto> getAllUserTodos(
             @AuthenticationPrincipal Jwt jwt,
             @RequestParam(name = "filter", required = false, defaultValue = "all") String filter,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "5") int size
+            @RequestParam(name = "size", defaultValue = "5") int size,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to
     ) {
-        return ResponseEntity.ok(Map.of("todos", todoService.getAllUserTodosByFilter(jwt, filter, PageRequest.of(page, size))));
+        if (cursor != null || from != null || to != null) {
+            return ResponseEntity.ok(todoService.getAllUserTodosByFilter(jwt, filter, from, to, cursor != null ? cursor : "", size));
+        }
+        return ResponseEntity.ok(new TodoPageDto(todoService.getAllUserTodosByFilter(jwt, filter, PageRequest.of(page, size)), null));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Map<String, List<TodoDto>>> searchTodos(
+    public ResponseEntity<TodoPageDto> searchTodos(
             @AuthenticationPrincipal Jwt jwt,
             @RequestParam(name = "s") String searchString,
+            @RequestParam(name = "highlight", defaultValue = "false") boolean highlight,
             @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "5") int size,
+            @RequestParam(name = "cursor", required = false) String cursor
+    ) {
+        if (cursor != null) {
+            return ResponseEntity.ok(todoService.searchTodos(jwt, searchString, highlight, cursor, size));
+        }
+        return ResponseEntity.ok(new TodoPageDto(todoService.searchTodos(jwt, searchString, highlight, PageRequest.of(page, size)), null));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<Map<String, List<String>>> suggestTodoTitles(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(name = "prefix") String prefix,
             @RequestParam(name = "size", defaultValue = "5") int size
     ) {
-        return ResponseEntity.ok(Map.of("todos", todoService.searchTodos(jwt, searchString, PageRequest.of(page, size))));
+        return ResponseEntity.ok(Map.of("suggestions", todoService.suggestTodoTitles(jwt, prefix, size)));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TodoStatsDto> getUserTodoStats(@AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(todoService.getUserTodoStats(jwt));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(@AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> todoService.exportTodos(jwt, outputStream));
+    }
+
+    @GetMapping("/tasks")
+    public ResponseEntity<Map<String, List<TodoTaskDto>>> getUserTasks(@AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(Map.of("tasks", todoTaskService.getUserTasks(jwt)));
+    }
+
+    @GetMapping("/id/{id}")
+    public ResponseEntity<TodoDto> getTodoById(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID id
+    ) {
+        return ResponseEntity.ok(todoService.getTodoById(jwt, id));
     }
 
     @GetMapping("/{category}")
-    public ResponseEntity<Map<String, List<TodoDto>>> getAllUserTodosByCategory(
+    public ResponseEntity<TodoPageDto> getAllUserTodosByCategory(
             @AuthenticationPrincipal Jwt jwt,
             @PathVariable String category,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "5") int size
+            @RequestParam(name = "size", defaultValue = "5") int size,
+            @RequestParam(name = "cursor", required = false) String cursor
     ) {
-        return ResponseEntity.ok(Map.of("todos", todoService.getAllUserTodosByCategory(jwt, category, PageRequest.of(page, size))));
+        if (cursor != null) {
+            return ResponseEntity.ok(todoService.getAllUserTodosByCategory(jwt, category, cursor, size));
+        }
+        return ResponseEntity.ok(new TodoPageDto(todoService.getAllUserTodosByCategory(jwt, category, PageRequest.of(page, size)), null));
     }
 
     @PatchMapping
@@ -68,7 +155,7 @@ public class TodoController {
             @AuthenticationPrincipal Jwt jwt,
             @RequestParam String title
     ) {
-        return ResponseEntity.ok(todoService.changeCompleted(jwt, title));
+        return ResponseEntity.status(writeStatus(HttpStatus.OK)).body(todoService.changeCompleted(jwt, title));
     }
 
     @DeleteMapping
@@ -76,8 +163,30 @@ public class TodoController {
             @AuthenticationPrincipal Jwt jwt,
             @RequestParam String title
     ) {
-        return ResponseEntity.ok(
+        return ResponseEntity.status(writeStatus(HttpStatus.OK)).body(
                 Map.of("message", String.format("Todo \"%s\" has been removed", todoService.removeTodo(jwt, title)))
         );
     }
+
+    @PatchMapping("/id/{id}")
+    public ResponseEntity<TodoDto> changeCompletedById(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID id
+    ) {
+        return ResponseEntity.status(writeStatus(HttpStatus.OK)).body(todoService.changeCompletedById(jwt, id));
+    }
+
+    @DeleteMapping("/id/{id}")
+    public ResponseEntity<Map<String, String>> removeTodoById(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID id
+    ) {
+        return ResponseEntity.status(writeStatus(HttpStatus.OK)).body(
+                Map.of("message", String.format("Todo \"%s\" has been removed", todoService.removeTodoById(jwt, id)))
+        );
+    }
+
+    private HttpStatus writeStatus(HttpStatus status) {
+        return todoProperties.isWriteBehindEnabled() ? HttpStatus.ACCEPTED : status;
+    }
 }
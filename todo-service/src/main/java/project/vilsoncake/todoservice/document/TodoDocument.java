@@ -3,14 +3,16 @@ package project.vilsoncake.todoservice.document;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.elasticsearch.annotations.Document;
-import org.springframework.data.elasticsearch.annotations.Field;
-import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.*;
 
 import java.util.Date;
 import java.util.UUID;
 
-@Document(indexName = "todo")
+import static project.vilsoncake.todoservice.constant.IndexConst.TODO_INDEX;
+
+@Document(indexName = TODO_INDEX, createIndex = false)
+@Setting(settingPath = "/elasticsearch/todo-settings.json")
+@Routing("T(project.vilsoncake.todoservice.utils.RoutingUtils).getOwnerRouting(#entity.owner)")
 @Data
 @NoArgsConstructor
 public class TodoDocument {
@@ -18,10 +20,19 @@ public class TodoDocument {
     @Id
     private UUID id;
 
-    @Field(name = "title", type = FieldType.Text)
+    @MultiField(
+            mainField = @Field(name = "title", type = FieldType.Text),
+            otherFields = {
+                    @InnerField(suffix = "keyword", type = FieldType.Keyword, normalizer = "lowercase_normalizer"),
+                    @InnerField(suffix = "suggest", type = FieldType.Search_As_You_Type)
+            }
+    )
     private String title;
 
-    @Field(name = "category", type = FieldType.Text)
+    @MultiField(
+            mainField = @Field(name = "category", type = FieldType.Text),
+            otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword, normalizer = "lowercase_normalizer")
+    )
     private String category;
 
     @Field(name = "text", type = FieldType.Text)
@@ -33,6 +44,9 @@ public class TodoDocument {
     @Field(name = "completed", type = FieldType.Boolean)
     private boolean completed;
 
-    @Field(name = "owner", type = FieldType.Text)
+    @MultiField(
+            mainField = @Field(name = "owner", type = FieldType.Text),
+            otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword, normalizer = "lowercase_normalizer")
+    )
     private String owner;
 }
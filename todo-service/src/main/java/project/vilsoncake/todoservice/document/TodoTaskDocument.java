@@ -0,0 +1,63 @@
+package project.vilsoncake.todoservice.document;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+
+import java.util.Date;
+
+import static project.vilsoncake.todoservice.constant.IndexConst.TASK_INDEX;
+
+@Document(indexName = TASK_INDEX)
+@Data
+@NoArgsConstructor
+public class TodoTaskDocument {
+
+    @Id
+    private String id;
+
+    @Field(name = "type", type = FieldType.Keyword)
+    private String type;
+
+    @Field(name = "username", type = FieldType.Keyword)
+    private String username;
+
+    @Field(name = "new_username", type = FieldType.Keyword)
+    private String newUsername;
+
+    @Field(name = "task_id", type = FieldType.Keyword)
+    private String taskId;
+
+    @Field(name = "state", type = FieldType.Keyword)
+    private String state;
+
+    @Field(name = "step", type = FieldType.Integer)
+    private int step;
+
+    @Field(name = "attempts", type = FieldType.Integer)
+    private int attempts;
+
+    @Field(name = "total", type = FieldType.Long)
+    private long total;
+
+    @Field(name = "processed", type = FieldType.Long)
+    private long processed;
+
+    @Field(name = "version_conflicts", type = FieldType.Long)
+    private long versionConflicts;
+
+    @Field(name = "message", type = FieldType.Text)
+    private String message;
+
+    @Field(name = "created_at", type = FieldType.Date)
+    private Date createdAt;
+
+    @Field(name = "updated_at", type = FieldType.Date)
+    private Date updatedAt;
+
+    private SeqNoPrimaryTerm seqNoPrimaryTerm;
+}
@@ -0,0 +1,30 @@
+package project.vilsoncake.todoservice.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import static project.vilsoncake.todoservice.constant.IndexConst.TITLE_SEQUENCE_INDEX;
+
+@Document(indexName = TITLE_SEQUENCE_INDEX)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoTitleSequenceDocument {
+
+    @Id
+    private String id;
+
+    @Field(name = "owner", type = FieldType.Keyword)
+    private String owner;
+
+    @Field(name = "title", type = FieldType.Keyword)
+    private String title;
+
+    @Field(name = "count", type = FieldType.Long)
+    private long count;
+}
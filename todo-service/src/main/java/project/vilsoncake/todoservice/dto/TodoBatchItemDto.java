@@ -0,0 +1,15 @@
+package project.vilsoncake.todoservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchItemDto {
+    private int index;
+    private int status;
+    private String title;
+    private String message;
+}
@@ -0,0 +1,15 @@
+package project.vilsoncake.todoservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoCacheInvalidationDto {
+    private String instanceId;
+    private List<String> owners;
+}
@@ -0,0 +1,14 @@
+package project.vilsoncake.todoservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TodoCacheKeyDto {
+    private String owner;
+    private String type;
+    private String value;
+    private int page;
+    private int size;
+}
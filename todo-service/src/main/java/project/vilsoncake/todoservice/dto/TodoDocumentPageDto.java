@@ -0,0 +1,16 @@
+package project.vilsoncake.todoservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import project.vilsoncake.todoservice.document.TodoDocument;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoDocumentPageDto {
+    private List<TodoDocument> todos;
+    private List<Object> searchAfter;
+}
@@ -1,21 +1,32 @@
 package project.vilsoncake.todoservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import project.vilsoncake.todoservice.document.TodoDocument;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TodoDto {
+    private UUID id;
     private String title;
     private String category;
     private String text;
     private boolean completed;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, List<String>> highlights;
+
     public static TodoDto fromDocument(TodoDocument todoDocument) {
         TodoDto todoDto = new TodoDto();
+        todoDto.setId(todoDocument.getId());
         todoDto.setTitle(todoDocument.getTitle());
         todoDto.setCategory(todoDocument.getCategory());
         todoDto.setText(todoDocument.getText());
@@ -23,6 +34,14 @@ public class TodoDto {
         return todoDto;
     }
 
+    public static TodoDto fromSearchHit(SearchHit<TodoDocument> searchHit) {
+        TodoDto todoDto = fromDocument(searchHit.getContent());
+        if (!searchHit.getHighlightFields().isEmpty()) {
+            todoDto.setHighlights(searchHit.getHighlightFields());
+        }
+        return todoDto;
+    }
+
     public static TodoDto fromRequest(TodoRequest todoRequest) {
         TodoDto todoDto = new TodoDto();
         todoDto.setTitle(todoRequest.getTitle().trim());
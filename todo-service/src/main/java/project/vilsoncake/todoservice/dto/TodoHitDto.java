@@ -0,0 +1,16 @@
+package project.vilsoncake.todoservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import project.vilsoncake.todoservice.document.TodoDocument;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoHitDto {
+    private String index;
+    private Long seqNo;
+    private Long primaryTerm;
+    private TodoDocument todo;
+}
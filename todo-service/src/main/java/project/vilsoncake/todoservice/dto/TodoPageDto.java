@@ -0,0 +1,18 @@
+package project.vilsoncake.todoservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoPageDto {
+    private List<TodoDto> todos;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String cursor;
+}
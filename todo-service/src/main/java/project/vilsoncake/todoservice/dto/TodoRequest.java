@@ -1,6 +1,7 @@
 package project.vilsoncake.todoservice.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,9 +15,11 @@ import static project.vilsoncake.todoservice.constant.PatternConst.REGEX_TITLE_V
 @NoArgsConstructor
 @AllArgsConstructor
 public class TodoRequest {
+    @NotNull(message = TITLE_NOT_VALID_MESSAGE)
     @Pattern(regexp = REGEX_TITLE_VALIDATION_PATTERN, message = TITLE_NOT_VALID_MESSAGE)
     private String title;
 
+    @NotNull(message = CATEGORY_NOT_VALID_MESSAGE)
     @Pattern(regexp = REGEX_CATEGORY_VALIDATION_PATTERN, message = CATEGORY_NOT_VALID_MESSAGE)
     private String category;
 
@@ -0,0 +1,17 @@
+package project.vilsoncake.todoservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoStatsDto {
+    private long total;
+    private long completed;
+    private long open;
+    private Map<String, Long> categories;
+}
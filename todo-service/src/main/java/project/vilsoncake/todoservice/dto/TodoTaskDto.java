@@ -0,0 +1,43 @@
+package project.vilsoncake.todoservice.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import project.vilsoncake.todoservice.document.TodoTaskDocument;
+
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+public class TodoTaskDto {
+    private String id;
+    private String type;
+    private String username;
+    private String newUsername;
+    private String taskId;
+    private String state;
+    private int step;
+    private int attempts;
+    private long total;
+    private long processed;
+    private long versionConflicts;
+    private String message;
+    private Date updatedAt;
+
+    public static TodoTaskDto fromDocument(TodoTaskDocument todoTaskDocument) {
+        TodoTaskDto todoTaskDto = new TodoTaskDto();
+        todoTaskDto.setId(todoTaskDocument.getId());
+        todoTaskDto.setType(todoTaskDocument.getType());
+        todoTaskDto.setUsername(todoTaskDocument.getUsername());
+        todoTaskDto.setNewUsername(todoTaskDocument.getNewUsername());
+        todoTaskDto.setTaskId(todoTaskDocument.getTaskId());
+        todoTaskDto.setState(todoTaskDocument.getState());
+        todoTaskDto.setStep(todoTaskDocument.getStep());
+        todoTaskDto.setAttempts(todoTaskDocument.getAttempts());
+        todoTaskDto.setTotal(todoTaskDocument.getTotal());
+        todoTaskDto.setProcessed(todoTaskDocument.getProcessed());
+        todoTaskDto.setVersionConflicts(todoTaskDocument.getVersionConflicts());
+        todoTaskDto.setMessage(todoTaskDocument.getMessage());
+        todoTaskDto.setUpdatedAt(todoTaskDocument.getUpdatedAt());
+        return todoTaskDto;
+    }
+}
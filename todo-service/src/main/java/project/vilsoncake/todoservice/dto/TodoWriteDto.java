@@ -0,0 +1,17 @@
+package project.vilsoncake.todoservice.dto;
+
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoWriteDto {
+    private String owner;
+    private BulkOperation operation;
+    private CompletableFuture<Void> result;
+}
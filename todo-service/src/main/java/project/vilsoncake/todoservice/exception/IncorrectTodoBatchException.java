@@ -0,0 +1,7 @@
+package project.vilsoncake.todoservice.exception;
+
+public class IncorrectTodoBatchException extends RuntimeException {
+    public IncorrectTodoBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package project.vilsoncake.todoservice.exception;
+
+public class IncorrectTodoCursorException extends RuntimeException {
+    public IncorrectTodoCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package project.vilsoncake.todoservice.exception;
+
+public class TodoConflictException extends RuntimeException {
+    public TodoConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package project.vilsoncake.todoservice.exception;
+
+public class TodoWriteRejectedException extends RuntimeException {
+    public TodoWriteRejectedException(String message) {
+        super(message);
+    }
+}
@@ -10,4 +10,14 @@ import org.springframework.stereotype.Component;
 public class ElasticsearchProperties {
     private String host;
     private int port;
+    private int maxConnTotal;
+    private int maxConnPerRoute;
+    private long keepAliveMs;
+    private boolean compressionEnabled;
+    private int connectTimeoutMs;
+    private int socketTimeoutMs;
+    private int connectionRequestTimeoutMs;
+    private boolean snifferEnabled;
+    private int snifferIntervalMs;
+    private int snifferDelayAfterFailureMs;
 }
@@ -0,0 +1,17 @@
+package project.vilsoncake.todoservice.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "kafka")
+public class KafkaProperties {
+    private String topicName;
+    private String groupId;
+    private String cacheInvalidationTopicName;
+    private String cacheInvalidationGroupId;
+    private int cacheInvalidationPartitionsCount;
+    private short cacheInvalidationReplicationFactor;
+}
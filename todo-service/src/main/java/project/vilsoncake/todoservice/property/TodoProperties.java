@@ -0,0 +1,44 @@
+package project.vilsoncake.todoservice.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "todo")
+public class TodoProperties {
+    private String storage;
+    private int batchMaxSize;
+    private float taskRequestsPerSecond;
+    private int taskSlices;
+    private int taskMaxAttempts;
+    private long taskRetentionMs;
+    private long cursorPointInTimeKeepAliveMs;
+    private int searchFuzzyPrefixLength;
+    private int searchFuzzyMaxExpansions;
+    private boolean inMemorySearchFuzzyEnabled;
+    private int suggestMaxSize;
+    private int statsCategoriesMaxSize;
+    private int toggleMaxAttempts;
+    private int exportBatchSize;
+    private long exportPointInTimeKeepAliveMs;
+    private int importBatchSize;
+    private int importConcurrency;
+    private String rolloverMaxAge;
+    private String rolloverMaxSize;
+    private long rolloverMaxDocs;
+    private boolean cacheEnabled;
+    private long cacheMaxSize;
+    private long cacheTtlMs;
+    private boolean cacheInvalidationEnabled;
+    private int cacheInvalidationBatchMaxSize;
+    private boolean writeBehindEnabled;
+    private int writeBehindQueueCapacity;
+    private int writeBehindBatchMaxSize;
+    private long writeBehindFlushIntervalMs;
+    private long writeBehindOfferTimeoutMs;
+    private List<String> metricsAllowedAddresses = List.of();
+}
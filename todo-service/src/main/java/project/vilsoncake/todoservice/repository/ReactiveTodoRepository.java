@@ -0,0 +1,9 @@
+package project.vilsoncake.todoservice.repository;
+
+import org.springframework.data.elasticsearch.repository.ReactiveElasticsearchRepository;
+import project.vilsoncake.todoservice.document.TodoDocument;
+
+import java.util.UUID;
+
+public interface ReactiveTodoRepository extends ReactiveElasticsearchRepository<TodoDocument, UUID>, ReactiveTodoRepositoryCustom {
+}
@@ -0,0 +1,12 @@
+package project.vilsoncake.todoservice.repository;
+
+import org.springframework.data.domain.Pageable;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveTodoRepositoryCustom {
+    Flux<TodoDocument> findAllByOwnerIgnoreCase(String owner, Pageable pageable);
+    Flux<TodoDocument> findAllByOwnerIgnoreCaseAndCompletedIsTrue(String owner, Pageable pageable);
+    Flux<TodoDocument> findAllByOwnerIgnoreCaseAndCompletedIsFalse(String owner, Pageable pageable);
+    Flux<TodoDocument> findAllByOwnerIgnoreCaseAndCategoryIgnoreCase(String owner, String category, Pageable pageable);
+}
@@ -0,0 +1,43 @@
+package project.vilsoncake.todoservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.utils.QueryUtils;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class ReactiveTodoRepositoryCustomImpl implements ReactiveTodoRepositoryCustom {
+
+    private final ReactiveElasticsearchOperations reactiveElasticsearchOperations;
+    private final QueryUtils queryUtils;
+
+    @Override
+    public Flux<TodoDocument> findAllByOwnerIgnoreCase(String owner, Pageable pageable) {
+        return page(queryUtils.ownerQueryBuilder(owner), pageable);
+    }
+
+    @Override
+    public Flux<TodoDocument> findAllByOwnerIgnoreCaseAndCompletedIsTrue(String owner, Pageable pageable) {
+        return page(queryUtils.ownerQueryBuilder(owner, queryUtils.term("completed", true)), pageable);
+    }
+
+    @Override
+    public Flux<TodoDocument> findAllByOwnerIgnoreCaseAndCompletedIsFalse(String owner, Pageable pageable) {
+        return page(queryUtils.ownerQueryBuilder(owner, queryUtils.term("completed", false)), pageable);
+    }
+
+    @Override
+    public Flux<TodoDocument> findAllByOwnerIgnoreCaseAndCategoryIgnoreCase(String owner, String category, Pageable pageable) {
+        return page(queryUtils.ownerQueryBuilder(owner, queryUtils.term("category.keyword", category)), pageable);
+    }
+
+    private Flux<TodoDocument> page(NativeQueryBuilder queryBuilder, Pageable pageable) {
+        return reactiveElasticsearchOperations
+                .search(queryBuilder.withPageable(pageable).build(), TodoDocument.class)
+                .map(SearchHit::getContent);
+    }
+}
@@ -0,0 +1,21 @@
+package project.vilsoncake.todoservice.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoHitDto;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TodoRepositoryCustom {
+    Optional<TodoDocument> findByTitleIgnoreCaseAndOwnerIgnoreCase(String title, String owner);
+    Optional<TodoHitDto> findHitByTitleIgnoreCaseAndOwnerIgnoreCase(String title, String owner);
+    Optional<TodoHitDto> findHitByIdAndOwnerIgnoreCase(UUID id, String owner, List<String> indices);
+    Page<TodoDocument> findAllByOwnerIgnoreCase(String owner, Pageable pageable);
+    List<TodoDocument> findAllByOwnerIgnoreCase(String owner);
+    Page<TodoDocument> findAllByOwnerIgnoreCaseAndCompletedIsTrue(String owner, Pageable pageable);
+    Page<TodoDocument> findAllByOwnerIgnoreCaseAndCompletedIsFalse(String owner, Pageable pageable);
+    Page<TodoDocument> findAllByOwnerIgnoreCaseAndCategoryIgnoreCase(String owner, String category, Pageable pageable);
+}
@@ -0,0 +1,135 @@
+package project.vilsoncake.todoservice.repository;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetResponseItem;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.document.Document;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoHitDto;
+import project.vilsoncake.todoservice.utils.QueryUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static project.vilsoncake.todoservice.constant.IndexConst.TODO_INDEX;
+import static project.vilsoncake.todoservice.utils.RoutingUtils.getOwnerRouting;
+
+@RequiredArgsConstructor
+public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final QueryUtils queryUtils;
+
+    @Override
+    public Optional<TodoDocument> findByTitleIgnoreCaseAndOwnerIgnoreCase(String title, String owner) {
+        return findHitByTitleIgnoreCaseAndOwnerIgnoreCase(title, owner).map(TodoHitDto::getTodo);
+    }
+
+    @Override
+    public Optional<TodoHitDto> findHitByTitleIgnoreCaseAndOwnerIgnoreCase(String title, String owner) {
+        SearchResponse<JsonData> response;
+        try {
+            response = elasticsearchClient.search(s -> s
+                    .index(TODO_INDEX)
+                    .routing(getOwnerRouting(owner))
+                    .query(q -> q
+                            .bool(b -> b
+                                    .filter(queryUtils.term("owner.keyword", owner))
+                                    .filter(queryUtils.term("title.keyword", title))
+                            )
+                    )
+                    .size(1)
+                    .seqNoPrimaryTerm(true), JsonData.class);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(e.getMessage(), e);
+        }
+
+        return response.hits().hits().stream()
+                .filter(hit -> hit.source() != null)
+                .map(hit -> toHitDto(hit.index(), hit.id(), hit.seqNo(), hit.primaryTerm(), hit.source()))
+                .findFirst();
+    }
+
+    @Override
+    public Optional<TodoHitDto> findHitByIdAndOwnerIgnoreCase(UUID id, String owner, List<String> indices) {
+        MgetResponse<JsonData> response;
+        try {
+            response = elasticsearchClient.mget(m -> {
+                indices.forEach(index -> m.docs(d -> d
+                        .index(index)
+                        .id(id.toString())
+                        .routing(getOwnerRouting(owner))
+                ));
+                return m.realtime(true);
+            }, JsonData.class);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(e.getMessage(), e);
+        }
+
+        return response.docs().stream()
+                .filter(MultiGetResponseItem::isResult)
+                .map(MultiGetResponseItem::result)
+                .filter(result -> result.found() && result.source() != null)
+                .map(result -> toHitDto(result.index(), result.id(), result.seqNo(), result.primaryTerm(), result.source()))
+                .filter(hit -> hit.getTodo().getOwner().equalsIgnoreCase(owner))
+                .findFirst();
+    }
+
+    @Override
+    public Page<TodoDocument> findAllByOwnerIgnoreCase(String owner, Pageable pageable) {
+        return page(queryUtils.ownerQueryBuilder(owner), pageable);
+    }
+
+    @Override
+    public List<TodoDocument> findAllByOwnerIgnoreCase(String owner) {
+        try (SearchHitsIterator<TodoDocument> searchHits = elasticsearchOperations.searchForStream(queryUtils.ownerQueryBuilder(owner).build(), TodoDocument.class)) {
+            return searchHits.stream().map(SearchHit::getContent).toList();
+        }
+    }
+
+    @Override
+    public Page<TodoDocument> findAllByOwnerIgnoreCaseAndCompletedIsTrue(String owner, Pageable pageable) {
+        return page(queryUtils.ownerQueryBuilder(owner, queryUtils.term("completed", true)), pageable);
+    }
+
+    @Override
+    public Page<TodoDocument> findAllByOwnerIgnoreCaseAndCompletedIsFalse(String owner, Pageable pageable) {
+        return page(queryUtils.ownerQueryBuilder(owner, queryUtils.term("completed", false)), pageable);
+    }
+
+    @Override
+    public Page<TodoDocument> findAllByOwnerIgnoreCaseAndCategoryIgnoreCase(String owner, String category, Pageable pageable) {
+        return page(queryUtils.ownerQueryBuilder(owner, queryUtils.term("category.keyword", category)), pageable);
+    }
+
+    private TodoHitDto toHitDto(String index, String id, Long seqNo, Long primaryTerm, JsonData source) {
+        Document document = Document.parse(source.toJson(elasticsearchClient._jsonpMapper()).toString());
+        document.setId(id);
+        TodoDocument todo = elasticsearchOperations.getElasticsearchConverter().read(TodoDocument.class, document);
+        return new TodoHitDto(index, seqNo, primaryTerm, todo);
+    }
+
+    private Page<TodoDocument> page(NativeQueryBuilder queryBuilder, Pageable pageable) {
+        SearchHits<TodoDocument> searchHits = elasticsearchOperations.search(queryBuilder.withPageable(pageable).build(), TodoDocument.class);
+        return new PageImpl<>(
+                searchHits.stream().map(SearchHit::getContent).toList(),
+                pageable,
+                searchHits.getTotalHits()
+        );
+    }
+}
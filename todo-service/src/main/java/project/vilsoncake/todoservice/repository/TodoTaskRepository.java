@@ -0,0 +1,11 @@
+package project.vilsoncake.todoservice.repository;
+
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import project.vilsoncake.todoservice.document.TodoTaskDocument;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TodoTaskRepository extends ElasticsearchRepository<TodoTaskDocument, String>, TodoTaskRepositoryCustom {
+    List<TodoTaskDocument> findAllByStateIn(Collection<String> states);
+}
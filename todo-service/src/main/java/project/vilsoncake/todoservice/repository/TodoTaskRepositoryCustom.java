@@ -0,0 +1,9 @@
+package project.vilsoncake.todoservice.repository;
+
+import project.vilsoncake.todoservice.document.TodoTaskDocument;
+
+import java.util.List;
+
+public interface TodoTaskRepositoryCustom {
+    List<TodoTaskDocument> findAllByUsernameIgnoreCaseOrNewUsernameIgnoreCase(String username);
+}
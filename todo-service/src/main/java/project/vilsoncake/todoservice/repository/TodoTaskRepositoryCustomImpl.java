@@ -0,0 +1,40 @@
+package project.vilsoncake.todoservice.repository;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import project.vilsoncake.todoservice.document.TodoTaskDocument;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TodoTaskRepositoryCustomImpl implements TodoTaskRepositoryCustom {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    @Override
+    public List<TodoTaskDocument> findAllByUsernameIgnoreCaseOrNewUsernameIgnoreCase(String username) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> b
+                                .should(term("username", username))
+                                .should(term("new_username", username))
+                                .minimumShouldMatch("1")
+                        )
+                )
+                .withSort(Sort.by("createdAt"))
+                .build();
+
+        try (SearchHitsIterator<TodoTaskDocument> searchHits = elasticsearchOperations.searchForStream(query, TodoTaskDocument.class)) {
+            return searchHits.stream().map(SearchHit::getContent).toList();
+        }
+    }
+
+    private Query term(String field, String value) {
+        return Query.of(q -> q.term(t -> t.field(field).value(value).caseInsensitive(true)));
+    }
+}
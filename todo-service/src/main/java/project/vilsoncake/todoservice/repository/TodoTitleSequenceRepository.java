@@ -0,0 +1,8 @@
+package project.vilsoncake.todoservice.repository;
+
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import project.vilsoncake.todoservice.document.TodoTitleSequenceDocument;
+
+public interface TodoTitleSequenceRepository extends ElasticsearchRepository<TodoTitleSequenceDocument, String> {
+    void deleteAllByOwner(String owner);
+}
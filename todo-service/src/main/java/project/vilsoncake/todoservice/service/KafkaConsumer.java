@@ -4,4 +4,5 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 
 public interface KafkaConsumer {
     void handleUserEvent(String serializedUserEvent) throws JsonProcessingException;
+    void handleCacheInvalidation(String serializedInvalidation) throws JsonProcessingException;
 }
@@ -0,0 +1,8 @@
+package project.vilsoncake.todoservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import project.vilsoncake.todoservice.dto.TodoCacheInvalidationDto;
+
+public interface KafkaProducer {
+    boolean sendCacheInvalidation(TodoCacheInvalidationDto todoCacheInvalidationDto) throws JsonProcessingException;
+}
@@ -0,0 +1,13 @@
+package project.vilsoncake.todoservice.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import project.vilsoncake.todoservice.dto.TodoDto;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveTodoService {
+    Flux<TodoDto> searchTodos(Jwt jwt, String searchString, boolean highlight, PageRequest pageRequest);
+    Flux<String> suggestTodoTitles(Jwt jwt, String prefix, int size);
+    Flux<TodoDto> getAllUserTodosByFilter(Jwt jwt, String filter, PageRequest pageRequest);
+    Flux<TodoDto> getAllUserTodosByCategory(Jwt jwt, String category, PageRequest pageRequest);
+}
@@ -0,0 +1,17 @@
+package project.vilsoncake.todoservice.service;
+
+import org.springframework.data.domain.PageRequest;
+import project.vilsoncake.todoservice.dto.TodoCacheInvalidationDto;
+import project.vilsoncake.todoservice.dto.TodoDto;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface TodoCacheService {
+    List<TodoDto> getTodos(String owner, String type, String value, PageRequest pageRequest, Supplier<List<TodoDto>> loader);
+    Flux<TodoDto> getReactiveTodos(String owner, String type, String value, PageRequest pageRequest, Supplier<Flux<TodoDto>> loader);
+    void evictOwner(String owner);
+    void applyInvalidation(TodoCacheInvalidationDto todoCacheInvalidationDto);
+    void flushInvalidations();
+}
@@ -0,0 +1,9 @@
+package project.vilsoncake.todoservice.service;
+
+import java.util.List;
+
+public interface TodoIndexService {
+    void bootstrap();
+    void rollover();
+    List<String> getBackingIndices(boolean refresh);
+}
@@ -2,19 +2,38 @@ package project.vilsoncake.todoservice.service;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.oauth2.jwt.Jwt;
+import project.vilsoncake.todoservice.dto.TodoBatchItemDto;
 import project.vilsoncake.todoservice.dto.TodoDto;
+import project.vilsoncake.todoservice.dto.TodoPageDto;
 import project.vilsoncake.todoservice.dto.TodoRequest;
+import project.vilsoncake.todoservice.dto.TodoStatsDto;
 import project.vilsoncake.todoservice.dto.UserEventDto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 public interface TodoService {
     TodoDto addTodo(Jwt jwt, TodoRequest todoRequest);
+    List<TodoBatchItemDto> addTodos(Jwt jwt, List<TodoRequest> todoRequests);
     TodoDto changeCompleted(Jwt jwt, String title);
     String removeTodo(Jwt jwt, String title);
-    List<TodoDto> searchTodos(Jwt jwt, String searchString, PageRequest pageRequest);
+    TodoDto getTodoById(Jwt jwt, UUID id);
+    TodoDto changeCompletedById(Jwt jwt, UUID id);
+    String removeTodoById(Jwt jwt, UUID id);
+    List<TodoDto> searchTodos(Jwt jwt, String searchString, boolean highlight, PageRequest pageRequest);
+    TodoPageDto searchTodos(Jwt jwt, String searchString, boolean highlight, String cursor, int size);
+    List<String> suggestTodoTitles(Jwt jwt, String prefix, int size);
     List<TodoDto> getAllUserTodosByFilter(Jwt jwt, String filter, PageRequest pageRequest);
+    TodoPageDto getAllUserTodosByFilter(Jwt jwt, String filter, Date from, Date to, String cursor, int size);
     List<TodoDto> getAllUserTodosByCategory(Jwt jwt, String category, PageRequest pageRequest);
+    TodoPageDto getAllUserTodosByCategory(Jwt jwt, String category, String cursor, int size);
+    TodoStatsDto getUserTodoStats(Jwt jwt);
+    void exportTodos(Jwt jwt, OutputStream outputStream) throws IOException;
+    void importTodos(Jwt jwt, InputStream inputStream, OutputStream outputStream) throws IOException;
     boolean changeUserUsernameInTodos(UserEventDto userEventDto);
     boolean removeAllUserTodos(UserEventDto userEventDto);
 }
@@ -0,0 +1,13 @@
+package project.vilsoncake.todoservice.service;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import project.vilsoncake.todoservice.dto.TodoTaskDto;
+
+import java.util.List;
+
+public interface TodoTaskService {
+    TodoTaskDto submitChangeOwner(String username, String newUsername);
+    TodoTaskDto submitRemoveOwner(String username);
+    List<TodoTaskDto> getUserTasks(Jwt jwt);
+    void pollTasks();
+}
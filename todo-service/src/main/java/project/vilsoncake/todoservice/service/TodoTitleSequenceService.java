@@ -0,0 +1,6 @@
+package project.vilsoncake.todoservice.service;
+
+public interface TodoTitleSequenceService {
+    long reserve(String owner, String title, int count);
+    boolean removeAllOwnerSequences(String owner);
+}
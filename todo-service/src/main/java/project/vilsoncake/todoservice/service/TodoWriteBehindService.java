@@ -0,0 +1,13 @@
+package project.vilsoncake.todoservice.service;
+
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoHitDto;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface TodoWriteBehindService {
+    CompletableFuture<Void> index(TodoDocument todo);
+    CompletableFuture<Void> toggleCompleted(TodoHitDto todoHit);
+    CompletableFuture<Void> delete(TodoHitDto todoHit);
+    void flush();
+}
@@ -0,0 +1,451 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoBatchItemDto;
+import project.vilsoncake.todoservice.dto.TodoCursorDto;
+import project.vilsoncake.todoservice.dto.TodoDocumentPageDto;
+import project.vilsoncake.todoservice.dto.TodoDto;
+import project.vilsoncake.todoservice.dto.TodoPageDto;
+import project.vilsoncake.todoservice.dto.TodoRequest;
+import project.vilsoncake.todoservice.dto.TodoStatsDto;
+import project.vilsoncake.todoservice.dto.UserEventDto;
+import project.vilsoncake.todoservice.exception.IncorrectTodoBatchException;
+import project.vilsoncake.todoservice.exception.IncorrectTodoCursorException;
+import project.vilsoncake.todoservice.exception.IncorrectTodoFilterException;
+import project.vilsoncake.todoservice.exception.IncorrectUserEventPayloadException;
+import project.vilsoncake.todoservice.exception.TodoNotFoundException;
+import project.vilsoncake.todoservice.property.TodoProperties;
+import project.vilsoncake.todoservice.service.TodoService;
+import project.vilsoncake.todoservice.service.TodoTaskService;
+import project.vilsoncake.todoservice.storage.TodoStorage;
+import project.vilsoncake.todoservice.utils.CursorUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static project.vilsoncake.todoservice.constant.MessageConst.*;
+import static project.vilsoncake.todoservice.constant.MetricConst.TODO_SERVICE_REQUESTS;
+import static project.vilsoncake.todoservice.constant.PatternConst.TITLE_POSTFIX;
+import static project.vilsoncake.todoservice.constant.StorageConst.STORAGE_IN_MEMORY;
+
+@Service
+@ConditionalOnProperty(prefix = "todo", name = "storage", havingValue = STORAGE_IN_MEMORY)
+@RequiredArgsConstructor
+@Timed(value = TODO_SERVICE_REQUESTS, histogram = true, percentiles = {0.5, 0.95, 0.99})
+public class InMemoryTodoServiceImpl implements TodoService {
+
+    private final TodoStorage todoStorage;
+    private final TodoTaskService todoTaskService;
+    private final TodoProperties todoProperties;
+    private final Validator validator;
+    private final CursorUtils cursorUtils;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public TodoDto addTodo(Jwt jwt, TodoRequest todoRequest) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        TodoDto todoDto = TodoDto.fromRequest(todoRequest);
+
+        long duplicateNumber = todoStorage.reserveTitle(username, todoDto.getTitle(), 1);
+
+        if (duplicateNumber > 0) {
+            todoDto.setTitle(todoDto.getTitle() + String.format(TITLE_POSTFIX, duplicateNumber));
+        }
+
+        TodoDocument todo = createTodoDocument(todoDto, username);
+        todoStorage.save(todo);
+        todoDto.setId(todo.getId());
+
+        return todoDto;
+    }
+
+    @Override
+    public List<TodoBatchItemDto> addTodos(Jwt jwt, List<TodoRequest> todoRequests) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        if (todoRequests == null || todoRequests.isEmpty()) {
+            throw new IncorrectTodoBatchException(BATCH_EMPTY_MESSAGE);
+        }
+
+        if (todoRequests.size() > todoProperties.getBatchMaxSize()) {
+            throw new IncorrectTodoBatchException(String.format(BATCH_TOO_LARGE_MESSAGE, todoProperties.getBatchMaxSize()));
+        }
+
+        List<TodoBatchItemDto> results = new ArrayList<>();
+
+        for (int i = 0; i < todoRequests.size(); i++) {
+            results.add(addTodo(username, i, todoRequests.get(i)));
+        }
+
+        return results;
+    }
+
+    @Override
+    public TodoDto changeCompleted(Jwt jwt, String title) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        TodoDocument todo = todoStorage.findByTitle(username, title)
+                .flatMap(found -> todoStorage.toggleCompleted(username, found.getId()))
+                .orElseThrow(() -> new TodoNotFoundException(String.format("Todo \"%s\" not found", title)));
+
+        return TodoDto.fromDocument(todo);
+    }
+
+    @Override
+    public String removeTodo(Jwt jwt, String title) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        todoStorage.findByTitle(username, title)
+                .flatMap(found -> todoStorage.delete(username, found.getId()))
+                .orElseThrow(() -> new TodoNotFoundException(String.format("Todo \"%s\" not found", title)));
+        return title;
+    }
+
+    @Override
+    public TodoDto getTodoById(Jwt jwt, UUID id) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return TodoDto.fromDocument(todoStorage.findById(username, id)
+                .orElseThrow(() -> new TodoNotFoundException(String.format("Todo \"%s\" not found", id))));
+    }
+
+    @Override
+    public TodoDto changeCompletedById(Jwt jwt, UUID id) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return TodoDto.fromDocument(todoStorage.toggleCompleted(username, id)
+                .orElseThrow(() -> new TodoNotFoundException(String.format("Todo \"%s\" not found", id))));
+    }
+
+    @Override
+    public String removeTodoById(Jwt jwt, UUID id) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return todoStorage.delete(username, id)
+                .orElseThrow(() -> new TodoNotFoundException(String.format("Todo \"%s\" not found", id)))
+                .getTitle();
+    }
+
+    @Override
+    public List<TodoDto> searchTodos(Jwt jwt, String searchString, boolean highlight, PageRequest pageRequest) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return toTodoDtos(username, searchString, highlight, todoStorage.search(username, searchString, (int) pageRequest.getOffset(), pageRequest.getPageSize()));
+    }
+
+    @Override
+    public TodoPageDto searchTodos(Jwt jwt, String searchString, boolean highlight, String cursor, int size) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        TodoDocumentPageDto page = todoStorage.search(username, searchString, getSearchAfter(cursor, 3), size);
+
+        return toPageDto(toTodoDtos(username, searchString, highlight, page.getTodos()), page.getSearchAfter());
+    }
+
+    @Override
+    public List<String> suggestTodoTitles(Jwt jwt, String prefix, int size) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return todoStorage.suggestTitles(username, prefix, Math.max(1, Math.min(size, todoProperties.getSuggestMaxSize())));
+    }
+
+    @Override
+    public List<TodoDto> getAllUserTodosByFilter(Jwt jwt, String filter, PageRequest pageRequest) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return todoStorage.findAll(username, getCompleted(filter), null, null, null, (int) pageRequest.getOffset(), pageRequest.getPageSize())
+                .stream().map(TodoDto::fromDocument).toList();
+    }
+
+    @Override
+    public TodoPageDto getAllUserTodosByFilter(Jwt jwt, String filter, Date from, Date to, String cursor, int size) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        Boolean completed = getCompleted(filter);
+
+        return page(getSearchAfter(cursor, 2), searchAfter -> todoStorage.findAll(username, completed, null, from, to, searchAfter, size));
+    }
+
+    @Override
+    public List<TodoDto> getAllUserTodosByCategory(Jwt jwt, String category, PageRequest pageRequest) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return todoStorage.findAll(username, null, category, null, null, (int) pageRequest.getOffset(), pageRequest.getPageSize())
+                .stream().map(TodoDto::fromDocument).toList();
+    }
+
+    @Override
+    public TodoPageDto getAllUserTodosByCategory(Jwt jwt, String category, String cursor, int size) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return page(getSearchAfter(cursor, 2), searchAfter -> todoStorage.findAll(username, null, category, null, null, searchAfter, size));
+    }
+
+    @Override
+    public TodoStatsDto getUserTodoStats(Jwt jwt) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return todoStorage.getStats(username);
+    }
+
+    @Override
+    public void exportTodos(Jwt jwt, OutputStream outputStream) throws IOException {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        int batchSize = todoProperties.getExportBatchSize();
+
+        for (int offset = 0; ; offset += batchSize) {
+            List<TodoDocument> todos = todoStorage.findAll(username, null, null, null, null, offset, batchSize);
+
+            for (TodoDocument todo : todos) {
+                outputStream.write(objectMapper.writeValueAsBytes(TodoDto.fromDocument(todo)));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+
+            if (todos.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void importTodos(Jwt jwt, InputStream inputStream, OutputStream outputStream) throws IOException {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+
+        for (int index = 0; (line = reader.readLine()) != null; index++) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            TodoBatchItemDto result;
+            try {
+                result = addTodo(username, index, objectMapper.readValue(line, TodoRequest.class));
+            } catch (JsonProcessingException e) {
+                result = new TodoBatchItemDto(index, HttpStatus.BAD_REQUEST.value(), null, IMPORT_LINE_NOT_VALID_MESSAGE);
+            }
+
+            if (result.getStatus() != HttpStatus.CREATED.value()) {
+                outputStream.write(objectMapper.writeValueAsBytes(result));
+                outputStream.write('\n');
+                outputStream.flush();
+            }
+        }
+    }
+
+    @Override
+    public boolean changeUserUsernameInTodos(UserEventDto userEventDto) {
+        String newUsername = userEventDto.getPayload().get("newUsername");
+
+        if (newUsername == null) {
+            throw new IncorrectUserEventPayloadException("Incorrect user event payload");
+        }
+
+        todoTaskService.submitChangeOwner(userEventDto.getUsername(), newUsername);
+
+        return true;
+    }
+
+    @Override
+    public boolean removeAllUserTodos(UserEventDto userEventDto) {
+        todoTaskService.submitRemoveOwner(userEventDto.getUsername());
+
+        return true;
+    }
+
+    private TodoPageDto page(List<Object> searchAfter, Function<List<Object>, TodoDocumentPageDto> loader) {
+        TodoDocumentPageDto page = loader.apply(searchAfter);
+        return toPageDto(page.getTodos().stream().map(TodoDto::fromDocument).toList(), page.getSearchAfter());
+    }
+
+    private TodoPageDto toPageDto(List<TodoDto> todos, List<Object> searchAfter) {
+        if (searchAfter == null) {
+            return new TodoPageDto(todos, null);
+        }
+
+        return new TodoPageDto(todos, cursorUtils.encode(new TodoCursorDto(null, searchAfter)));
+    }
+
+    private List<TodoDto> toTodoDtos(String username, String searchString, boolean highlight, List<TodoDocument> todos) {
+        if (!highlight) {
+            return todos.stream().map(TodoDto::fromDocument).toList();
+        }
+
+        Map<UUID, Map<String, List<String>>> highlights = todoStorage.highlight(username, searchString, todos);
+
+        return todos.stream()
+                .map(todo -> {
+                    TodoDto todoDto = TodoDto.fromDocument(todo);
+                    todoDto.setText(null);
+                    todoDto.setHighlights(highlights.get(todo.getId()));
+                    return todoDto;
+                })
+                .toList();
+    }
+
+    private List<Object> getSearchAfter(String cursor, int length) {
+        if (cursor.isBlank()) {
+            return null;
+        }
+
+        List<Object> searchAfter = cursorUtils.decode(cursor).getSearchAfter();
+
+        if (searchAfter == null || searchAfter.size() != length
+                || !searchAfter.subList(0, length - 1).stream().allMatch(Number.class::isInstance)
+                || !(searchAfter.get(length - 1) instanceof String id) || !isUuid(id)) {
+            throw new IncorrectTodoCursorException(String.format("\"%s\" is incorrect cursor", cursor));
+        }
+
+        return searchAfter;
+    }
+
+    private boolean isUuid(String id) {
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private Boolean getCompleted(String filter) {
+        return switch (filter) {
+            case FILTER_ALL_TODOS -> null;
+            case FILTER_ONLY_COMPLETED_TODOS -> true;
+            case FILTER_ONLY_NOT_COMPLETED_TODOS -> false;
+            default -> throw new IncorrectTodoFilterException(String.format("\"%s\" is incorrect filter", filter));
+        };
+    }
+
+    private TodoBatchItemDto addTodo(String username, int index, TodoRequest todoRequest) {
+        if (todoRequest == null) {
+            return new TodoBatchItemDto(index, HttpStatus.BAD_REQUEST.value(), null, BATCH_ITEM_EMPTY_MESSAGE);
+        }
+
+        Set<ConstraintViolation<TodoRequest>> violations = validator.validate(todoRequest);
+
+        if (!violations.isEmpty()) {
+            String message = violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+            return new TodoBatchItemDto(index, HttpStatus.BAD_REQUEST.value(), todoRequest.getTitle(), message);
+        }
+
+        TodoDto todoDto = TodoDto.fromRequest(todoRequest);
+        long duplicateNumber = todoStorage.reserveTitle(username, todoDto.getTitle(), 1);
+
+        if (duplicateNumber > 0) {
+            todoDto.setTitle(todoDto.getTitle() + String.format(TITLE_POSTFIX, duplicateNumber));
+        }
+
+        todoStorage.save(createTodoDocument(todoDto, username));
+
+        return new TodoBatchItemDto(
+                index,
+                HttpStatus.CREATED.value(),
+                todoDto.getTitle(),
+                String.format("Todo \"%s\" has been added", todoDto.getTitle())
+        );
+    }
+
+    private TodoDocument createTodoDocument(TodoDto todoDto, String username) {
+        TodoDocument todo = new TodoDocument();
+        todo.setId(UUID.randomUUID());
+        todo.setTitle(todoDto.getTitle());
+        todo.setCategory(todoDto.getCategory());
+        todo.setText(todoDto.getText());
+        todo.setCompleted(todoDto.isCompleted());
+        todo.setCreatedAt(new Date());
+        todo.setOwner(username);
+        return todo;
+    }
+}
@@ -0,0 +1,92 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import project.vilsoncake.todoservice.dto.TodoTaskDto;
+import project.vilsoncake.todoservice.property.TodoProperties;
+import project.vilsoncake.todoservice.service.TodoTaskService;
+import project.vilsoncake.todoservice.storage.TodoStorage;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static project.vilsoncake.todoservice.constant.StorageConst.STORAGE_IN_MEMORY;
+import static project.vilsoncake.todoservice.constant.TaskConst.*;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "todo", name = "storage", havingValue = STORAGE_IN_MEMORY)
+@RequiredArgsConstructor
+public class InMemoryTodoTaskServiceImpl implements TodoTaskService {
+
+    private final TodoStorage todoStorage;
+    private final TodoProperties todoProperties;
+    private final Map<String, TodoTaskDto> tasks = new ConcurrentHashMap<>();
+
+    @Override
+    public TodoTaskDto submitChangeOwner(String username, String newUsername) {
+        TodoTaskDto task = createTask(TASK_TYPE_CHANGE_OWNER, username, newUsername);
+        long processed = todoStorage.changeOwner(username, newUsername);
+
+        return completeTask(task, processed);
+    }
+
+    @Override
+    public TodoTaskDto submitRemoveOwner(String username) {
+        TodoTaskDto task = createTask(TASK_TYPE_REMOVE_OWNER, username, null);
+        long processed = todoStorage.removeOwner(username);
+
+        return completeTask(task, processed);
+    }
+
+    @Override
+    public List<TodoTaskDto> getUserTasks(Jwt jwt) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return tasks.values().stream()
+                .filter(task -> username.equalsIgnoreCase(task.getUsername()) || username.equalsIgnoreCase(task.getNewUsername()))
+                .sorted(Comparator.comparing(TodoTaskDto::getUpdatedAt))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.task-poll-interval-ms}")
+    @Override
+    public void pollTasks() {
+        long now = System.currentTimeMillis();
+        tasks.values().removeIf(task -> now - task.getUpdatedAt().getTime() > todoProperties.getTaskRetentionMs());
+    }
+
+    private TodoTaskDto createTask(String type, String username, String newUsername) {
+        TodoTaskDto task = new TodoTaskDto();
+        task.setId(String.format(
+                TASK_ID_PATTERN,
+                type,
+                username.toLowerCase(Locale.ROOT),
+                newUsername != null ? newUsername.toLowerCase(Locale.ROOT) : ""
+        ));
+        task.setType(type);
+        task.setUsername(username);
+        task.setNewUsername(newUsername);
+        task.setAttempts(1);
+        return task;
+    }
+
+    private TodoTaskDto completeTask(TodoTaskDto task, long processed) {
+        task.setTotal(processed);
+        task.setProcessed(processed);
+        task.setState(TASK_STATE_COMPLETED);
+        task.setUpdatedAt(new Date());
+        tasks.put(task.getId(), task);
+        log.info("Task {} ({}) for user {} completed: {} processed", task.getId(), task.getType(), task.getUsername(), processed);
+        return task;
+    }
+}
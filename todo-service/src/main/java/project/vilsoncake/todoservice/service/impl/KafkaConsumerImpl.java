@@ -5,9 +5,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
+import project.vilsoncake.todoservice.dto.TodoCacheInvalidationDto;
 import project.vilsoncake.todoservice.dto.UserEventDto;
 import project.vilsoncake.todoservice.property.UserEventProperties;
 import project.vilsoncake.todoservice.service.KafkaConsumer;
+import project.vilsoncake.todoservice.service.TodoCacheService;
 import project.vilsoncake.todoservice.service.TodoService;
 
 @Service
@@ -15,6 +17,7 @@ import project.vilsoncake.todoservice.service.TodoService;
 public class KafkaConsumerImpl implements KafkaConsumer {
 
     private final TodoService todoService;
+    private final TodoCacheService todoCacheService;
     private final ObjectMapper objectMapper;
     private final UserEventProperties userEventProperties;
 
@@ -29,4 +32,14 @@ public class KafkaConsumerImpl implements KafkaConsumer {
             todoService.removeAllUserTodos(userEventDto);
         }
     }
+
+    @KafkaListener(
+            topics = "${kafka.cache-invalidation-topic-name}",
+            groupId = "${kafka.cache-invalidation-group-id}",
+            autoStartup = "${todo.cache-invalidation-enabled}"
+    )
+    @Override
+    public void handleCacheInvalidation(String serializedInvalidation) throws JsonProcessingException {
+        todoCacheService.applyInvalidation(objectMapper.readValue(serializedInvalidation, TodoCacheInvalidationDto.class));
+    }
 }
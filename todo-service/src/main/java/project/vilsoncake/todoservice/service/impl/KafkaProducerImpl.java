@@ -0,0 +1,27 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import project.vilsoncake.todoservice.dto.TodoCacheInvalidationDto;
+import project.vilsoncake.todoservice.property.KafkaProperties;
+import project.vilsoncake.todoservice.service.KafkaProducer;
+
+@Service
+@RequiredArgsConstructor
+public class KafkaProducerImpl implements KafkaProducer {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaProperties kafkaProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean sendCacheInvalidation(TodoCacheInvalidationDto todoCacheInvalidationDto) throws JsonProcessingException {
+        String serializedInvalidation = objectMapper.writeValueAsString(todoCacheInvalidationDto);
+        kafkaTemplate.send(kafkaProperties.getCacheInvalidationTopicName(), serializedInvalidation);
+
+        return true;
+    }
+}
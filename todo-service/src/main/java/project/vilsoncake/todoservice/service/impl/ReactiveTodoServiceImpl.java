@@ -0,0 +1,100 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoDto;
+import project.vilsoncake.todoservice.exception.IncorrectTodoFilterException;
+import project.vilsoncake.todoservice.repository.ReactiveTodoRepository;
+import project.vilsoncake.todoservice.service.ReactiveTodoService;
+import project.vilsoncake.todoservice.service.TodoCacheService;
+import project.vilsoncake.todoservice.utils.MetricUtils;
+import project.vilsoncake.todoservice.utils.QueryUtils;
+import reactor.core.publisher.Flux;
+
+import static project.vilsoncake.todoservice.constant.CacheConst.CACHE_TYPE_CATEGORY;
+import static project.vilsoncake.todoservice.constant.CacheConst.CACHE_TYPE_FILTER;
+import static project.vilsoncake.todoservice.constant.MessageConst.*;
+import static project.vilsoncake.todoservice.constant.MetricConst.*;
+import static project.vilsoncake.todoservice.utils.RoutingUtils.getOwnerRouting;
+
+@Service
+@ConditionalOnProperty(prefix = "todo", name = "reactive-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveTodoServiceImpl implements ReactiveTodoService {
+
+    private final ReactiveElasticsearchOperations reactiveElasticsearchOperations;
+    private final ReactiveTodoRepository reactiveTodoRepository;
+    private final QueryUtils queryUtils;
+    private final TodoCacheService todoCacheService;
+    private final MetricUtils metricUtils;
+
+    @Override
+    public Flux<TodoDto> searchTodos(Jwt jwt, String searchString, boolean highlight, PageRequest pageRequest) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return metricUtils.recordServiceRequest(getClass(), "searchTodos", metricUtils.recordElasticsearchOperation(OPERATION_SEARCH, reactiveElasticsearchOperations
+                .search(queryUtils.searchQueryBuilder(username, searchString, highlight)
+                        .withPageable(pageRequest)
+                        .withRoute(getOwnerRouting(username))
+                        .build(), TodoDocument.class))
+                .map(TodoDto::fromSearchHit));
+    }
+
+    @Override
+    public Flux<String> suggestTodoTitles(Jwt jwt, String prefix, int size) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return metricUtils.recordServiceRequest(getClass(), "suggestTodoTitles", metricUtils.recordElasticsearchOperation(OPERATION_SUGGEST, reactiveElasticsearchOperations
+                .search(queryUtils.suggestQuery(username, prefix, size), TodoDocument.class))
+                .map(SearchHit::getContent)
+                .map(TodoDocument::getTitle));
+    }
+
+    @Override
+    public Flux<TodoDto> getAllUserTodosByFilter(Jwt jwt, String filter, PageRequest pageRequest) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        Flux<TodoDocument> todos = switch (filter) {
+            case FILTER_ALL_TODOS -> reactiveTodoRepository.findAllByOwnerIgnoreCase(username, pageRequest);
+            case FILTER_ONLY_COMPLETED_TODOS -> reactiveTodoRepository.findAllByOwnerIgnoreCaseAndCompletedIsTrue(username, pageRequest);
+            case FILTER_ONLY_NOT_COMPLETED_TODOS -> reactiveTodoRepository.findAllByOwnerIgnoreCaseAndCompletedIsFalse(username, pageRequest);
+            default -> throw new IncorrectTodoFilterException(String.format("\"%s\" is incorrect filter", filter));
+        };
+
+        return metricUtils.recordServiceRequest(getClass(), "getAllUserTodosByFilter", todoCacheService.getReactiveTodos(username, CACHE_TYPE_FILTER, filter, pageRequest, () -> metricUtils
+                .recordElasticsearchOperation(OPERATION_LIST_BY_FILTER, todos)
+                .map(TodoDto::fromDocument)));
+    }
+
+    @Override
+    public Flux<TodoDto> getAllUserTodosByCategory(Jwt jwt, String category, PageRequest pageRequest) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return metricUtils.recordServiceRequest(getClass(), "getAllUserTodosByCategory", todoCacheService.getReactiveTodos(username, CACHE_TYPE_CATEGORY, category, pageRequest, () -> metricUtils
+                .recordElasticsearchOperation(OPERATION_LIST_BY_CATEGORY, reactiveTodoRepository.findAllByOwnerIgnoreCaseAndCategoryIgnoreCase(username, category, pageRequest))
+                .map(TodoDto::fromDocument)));
+    }
+}
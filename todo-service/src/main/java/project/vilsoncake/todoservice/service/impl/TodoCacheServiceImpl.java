@@ -0,0 +1,182 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import project.vilsoncake.todoservice.dto.TodoCacheInvalidationDto;
+import project.vilsoncake.todoservice.dto.TodoCacheKeyDto;
+import project.vilsoncake.todoservice.dto.TodoDto;
+import project.vilsoncake.todoservice.property.TodoProperties;
+import project.vilsoncake.todoservice.service.KafkaProducer;
+import project.vilsoncake.todoservice.service.TodoCacheService;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static project.vilsoncake.todoservice.constant.CacheConst.TODO_CACHE_NAME;
+import static project.vilsoncake.todoservice.utils.RoutingUtils.getOwnerRouting;
+
+@Service
+@Slf4j
+public class TodoCacheServiceImpl implements TodoCacheService {
+
+    private final TodoProperties todoProperties;
+    private final KafkaProducer kafkaProducer;
+    private final Cache<String, Map<TodoCacheKeyDto, List<TodoDto>>> cache;
+    private final Set<String> pendingInvalidations = ConcurrentHashMap.newKeySet();
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public TodoCacheServiceImpl(TodoProperties todoProperties, KafkaProducer kafkaProducer, MeterRegistry meterRegistry) {
+        this.todoProperties = todoProperties;
+        this.kafkaProducer = kafkaProducer;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(todoProperties.getCacheMaxSize())
+                .weigher((String ownerKey, Map<TodoCacheKeyDto, List<TodoDto>> ownerPages) -> 1 + ownerPages.size())
+                .expireAfter(new OwnerPagesExpiry(Duration.ofMillis(todoProperties.getCacheTtlMs()).toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, TODO_CACHE_NAME);
+    }
+
+    @Override
+    public List<TodoDto> getTodos(String owner, String type, String value, PageRequest pageRequest, Supplier<List<TodoDto>> loader) {
+        if (!todoProperties.isCacheEnabled()) {
+            return loader.get();
+        }
+
+        TodoCacheKeyDto key = getKey(owner, type, value, pageRequest);
+        Map<TodoCacheKeyDto, List<TodoDto>> ownerPages = getOwnerPages(key);
+        List<TodoDto> todos = ownerPages.get(key);
+
+        if (todos != null) {
+            return todos;
+        }
+
+        List<TodoDto> loadedTodos = loader.get();
+        putPage(key, ownerPages, loadedTodos);
+
+        return loadedTodos;
+    }
+
+    @Override
+    public Flux<TodoDto> getReactiveTodos(String owner, String type, String value, PageRequest pageRequest, Supplier<Flux<TodoDto>> loader) {
+        if (!todoProperties.isCacheEnabled()) {
+            return loader.get();
+        }
+
+        return Flux.defer(() -> {
+            TodoCacheKeyDto key = getKey(owner, type, value, pageRequest);
+            Map<TodoCacheKeyDto, List<TodoDto>> ownerPages = getOwnerPages(key);
+            List<TodoDto> todos = ownerPages.get(key);
+
+            if (todos != null) {
+                return Flux.fromIterable(todos);
+            }
+
+            return loader.get()
+                    .collectList()
+                    .doOnNext(loadedTodos -> putPage(key, ownerPages, loadedTodos))
+                    .flatMapIterable(loadedTodos -> loadedTodos);
+        });
+    }
+
+    @Override
+    public void evictOwner(String owner) {
+        String ownerKey = getOwnerRouting(owner);
+        evictOwners(Set.of(ownerKey));
+
+        if (todoProperties.isCacheInvalidationEnabled()) {
+            pendingInvalidations.add(ownerKey);
+        }
+    }
+
+    @Override
+    public void applyInvalidation(TodoCacheInvalidationDto todoCacheInvalidationDto) {
+        if (instanceId.equals(todoCacheInvalidationDto.getInstanceId())) {
+            return;
+        }
+
+        evictOwners(new HashSet<>(todoCacheInvalidationDto.getOwners()));
+    }
+
+    @Scheduled(fixedDelayString = "${todo.cache-invalidation-flush-interval-ms}")
+    @PreDestroy
+    @Override
+    public void flushInvalidations() {
+        if (pendingInvalidations.isEmpty()) {
+            return;
+        }
+
+        List<String> owners = new ArrayList<>();
+        for (Iterator<String> iterator = pendingInvalidations.iterator(); iterator.hasNext(); ) {
+            owners.add(iterator.next());
+            iterator.remove();
+        }
+
+        int batchMaxSize = todoProperties.getCacheInvalidationBatchMaxSize();
+        for (int from = 0; from < owners.size(); from += batchMaxSize) {
+            List<String> batch = owners.subList(from, Math.min(from + batchMaxSize, owners.size()));
+            try {
+                kafkaProducer.sendCacheInvalidation(new TodoCacheInvalidationDto(instanceId, List.copyOf(batch)));
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("Cache invalidation for {} owners could not be published: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private TodoCacheKeyDto getKey(String owner, String type, String value, PageRequest pageRequest) {
+        return new TodoCacheKeyDto(
+                getOwnerRouting(owner),
+                type,
+                value.toLowerCase(Locale.ROOT),
+                pageRequest.getPageNumber(),
+                pageRequest.getPageSize()
+        );
+    }
+
+    private Map<TodoCacheKeyDto, List<TodoDto>> getOwnerPages(TodoCacheKeyDto key) {
+        return cache.get(key.getOwner(), ignored -> new ConcurrentHashMap<>());
+    }
+
+    private void putPage(TodoCacheKeyDto key, Map<TodoCacheKeyDto, List<TodoDto>> ownerPages, List<TodoDto> todos) {
+        cache.asMap().computeIfPresent(key.getOwner(), (ignored, currentPages) -> {
+            if (currentPages == ownerPages) {
+                currentPages.putIfAbsent(key, todos);
+            }
+            return currentPages;
+        });
+    }
+
+    private void evictOwners(Set<String> ownerKeys) {
+        cache.invalidateAll(ownerKeys);
+    }
+
+    private record OwnerPagesExpiry(long ttlNanos) implements Expiry<String, Map<TodoCacheKeyDto, List<TodoDto>>> {
+
+        @Override
+        public long expireAfterCreate(String ownerKey, Map<TodoCacheKeyDto, List<TodoDto>> ownerPages, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String ownerKey, Map<TodoCacheKeyDto, List<TodoDto>> ownerPages, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String ownerKey, Map<TodoCacheKeyDto, List<TodoDto>> ownerPages, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.Time;
+import co.elastic.clients.elasticsearch.core.ReindexResponse;
+import co.elastic.clients.elasticsearch.indices.RolloverResponse;
+import co.elastic.clients.elasticsearch.tasks.GetTasksResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.PutIndexTemplateRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.property.TodoProperties;
+import project.vilsoncake.todoservice.service.TodoIndexService;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+import static project.vilsoncake.todoservice.constant.IndexConst.*;
+import static project.vilsoncake.todoservice.constant.StorageConst.STORAGE_ELASTICSEARCH;
+
+@Service
+@ConditionalOnProperty(prefix = "todo", name = "storage", havingValue = STORAGE_ELASTICSEARCH, matchIfMissing = true)
+@Slf4j
+@RequiredArgsConstructor
+public class TodoIndexServiceImpl implements TodoIndexService {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final TodoProperties todoProperties;
+    private volatile List<String> backingIndices;
+
+    @PostConstruct
+    @Override
+    public void bootstrap() {
+        IndexOperations indexOperations = elasticsearchOperations.indexOps(TodoDocument.class);
+
+        indexOperations.putIndexTemplate(PutIndexTemplateRequest.builder()
+                .withName(TODO_INDEX_TEMPLATE)
+                .withIndexPatterns(TODO_BACKING_INDEX_PATTERN)
+                .withSettings(indexOperations.createSettings())
+                .withMapping(indexOperations.createMapping())
+                .build());
+
+        try {
+            if (aliasExists()) {
+                indexOperations.putMapping();
+                return;
+            }
+
+            if (indexOperations.exists()) {
+                migrateConcreteIndex();
+                return;
+            }
+
+            elasticsearchClient.indices().create(c -> c
+                    .index(TODO_FIRST_BACKING_INDEX)
+                    .aliases(TODO_INDEX, a -> a.isWriteIndex(true))
+            );
+            log.info("Index \"{}\" created behind alias \"{}\"", TODO_FIRST_BACKING_INDEX, TODO_INDEX);
+        } catch (ElasticsearchException e) {
+            if (!aliasExists()) {
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.rollover-check-interval-ms}")
+    @Override
+    public void rollover() {
+        try {
+            if (!aliasExists()) {
+                return;
+            }
+
+            RolloverResponse response = elasticsearchClient.indices().rollover(r -> r
+                    .alias(TODO_INDEX)
+                    .conditions(c -> c
+                            .maxAge(Time.of(t -> t.time(todoProperties.getRolloverMaxAge())))
+                            .maxSize(todoProperties.getRolloverMaxSize())
+                            .maxDocs(todoProperties.getRolloverMaxDocs())
+                    )
+            );
+
+            if (response.rolledOver()) {
+                log.info("Alias \"{}\" rolled over from \"{}\" to \"{}\"", TODO_INDEX, response.oldIndex(), response.newIndex());
+                getBackingIndices(true);
+            }
+        } catch (IOException | ElasticsearchException e) {
+            log.warn("Alias \"{}\" could not be rolled over: {}", TODO_INDEX, e.getMessage());
+        }
+    }
+
+    @Override
+    public List<String> getBackingIndices(boolean refresh) {
+        List<String> indices = backingIndices;
+
+        if (indices != null && !refresh) {
+            return indices;
+        }
+
+        try {
+            if (!aliasExists()) {
+                indices = List.of(TODO_INDEX);
+            } else {
+                indices = elasticsearchClient.indices().getAlias(a -> a.name(TODO_INDEX)).result().keySet().stream()
+                        .sorted(Comparator.reverseOrder())
+                        .toList();
+            }
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(e.getMessage(), e);
+        }
+
+        backingIndices = indices;
+        return indices;
+    }
+
+    private void migrateConcreteIndex() throws IOException {
+        log.info("\"{}\" is a concrete index, moving its todos behind alias \"{}\"", TODO_INDEX, TODO_INDEX);
+
+        elasticsearchClient.indices().putSettings(p -> p
+                .index(TODO_INDEX)
+                .settings(i -> i.blocks(b -> b.write(true)))
+        );
+        String backingIndex = elasticsearchClient.indices().create(c -> c.index(TODO_FIRST_BACKING_INDEX)).index();
+
+        String task = elasticsearchClient.reindex(r -> r
+                .source(source -> source.index(TODO_INDEX))
+                .dest(dest -> dest.index(backingIndex))
+                .refresh(true)
+                .waitForCompletion(false)
+        ).task();
+
+        GetTasksResponse response;
+        do {
+            response = elasticsearchClient.tasks().get(t -> t
+                    .taskId(task)
+                    .waitForCompletion(true)
+                    .timeout(Time.of(time -> time.time(TODO_REINDEX_POLL_TIMEOUT)))
+            );
+        } while (!response.completed());
+
+        ReindexResponse reindexResponse = response.error() == null
+                ? response.response().to(ReindexResponse.class, elasticsearchClient._jsonpMapper())
+                : null;
+        if (reindexResponse == null || !reindexResponse.failures().isEmpty()) {
+            elasticsearchClient.indices().putSettings(p -> p
+                    .index(TODO_INDEX)
+                    .settings(i -> i.blocks(b -> b.write(false)))
+            );
+            elasticsearchClient.indices().delete(d -> d.index(backingIndex));
+            throw new DataAccessResourceFailureException(String.format("\"%s\" could not be reindexed into \"%s\"", TODO_INDEX, backingIndex));
+        }
+
+        elasticsearchClient.indices().updateAliases(u -> u
+                .actions(a -> a.add(add -> add.index(backingIndex).alias(TODO_INDEX).isWriteIndex(true)))
+                .actions(a -> a.removeIndex(remove -> remove.index(TODO_INDEX)))
+        );
+        log.info("{} todos moved from concrete index \"{}\" to \"{}\"", reindexResponse.created(), TODO_INDEX, backingIndex);
+    }
+
+    private boolean aliasExists() {
+        try {
+            return elasticsearchClient.indices().existsAlias(a -> a.name(TODO_INDEX)).value();
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(e.getMessage(), e);
+        }
+    }
+}
@@ -1,41 +1,110 @@
 package project.vilsoncake.todoservice.service.impl;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.json.JsonData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoBatchItemDto;
+import project.vilsoncake.todoservice.dto.TodoCursorDto;
 import project.vilsoncake.todoservice.dto.TodoDto;
+import project.vilsoncake.todoservice.dto.TodoHitDto;
+import project.vilsoncake.todoservice.dto.TodoPageDto;
 import project.vilsoncake.todoservice.dto.TodoRequest;
+import project.vilsoncake.todoservice.dto.TodoStatsDto;
 import project.vilsoncake.todoservice.dto.UserEventDto;
+import project.vilsoncake.todoservice.exception.IncorrectTodoBatchException;
 import project.vilsoncake.todoservice.exception.IncorrectTodoFilterException;
 import project.vilsoncake.todoservice.exception.IncorrectUserEventPayloadException;
+import project.vilsoncake.todoservice.exception.TodoConflictException;
 import project.vilsoncake.todoservice.exception.TodoNotFoundException;
+import project.vilsoncake.todoservice.property.TodoProperties;
 import project.vilsoncake.todoservice.repository.TodoRepository;
+import project.vilsoncake.todoservice.service.TodoCacheService;
+import project.vilsoncake.todoservice.service.TodoIndexService;
 import project.vilsoncake.todoservice.service.TodoService;
-import project.vilsoncake.todoservice.utils.TodoUtils;
-
-import java.util.Date;
-import java.util.List;
-import java.util.UUID;
-
+import project.vilsoncake.todoservice.service.TodoTaskService;
+import project.vilsoncake.todoservice.service.TodoTitleSequenceService;
+import project.vilsoncake.todoservice.service.TodoWriteBehindService;
+import project.vilsoncake.todoservice.utils.CursorUtils;
+import project.vilsoncake.todoservice.utils.MetricUtils;
+import project.vilsoncake.todoservice.utils.QueryUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import static project.vilsoncake.todoservice.constant.CacheConst.*;
+import static project.vilsoncake.todoservice.constant.IndexConst.*;
 import static project.vilsoncake.todoservice.constant.MessageConst.*;
-import static project.vilsoncake.todoservice.constant.PatternConst.TITLE_LIKE_PATTERN_POSTFIX;
+import static project.vilsoncake.todoservice.constant.MetricConst.*;
 import static project.vilsoncake.todoservice.constant.PatternConst.TITLE_POSTFIX;
+import static project.vilsoncake.todoservice.constant.StorageConst.STORAGE_ELASTICSEARCH;
+import static project.vilsoncake.todoservice.utils.RoutingUtils.getOwnerRouting;
 
 @Service
+@ConditionalOnProperty(prefix = "todo", name = "storage", havingValue = STORAGE_ELASTICSEARCH, matchIfMissing = true)
 @RequiredArgsConstructor
+@Timed(value = TODO_SERVICE_REQUESTS, histogram = true, percentiles = {0.5, 0.95, 0.99})
 public class TodoServiceImpl implements TodoService {
 
+    private final ElasticsearchClient elasticsearchClient;
     private final ElasticsearchOperations elasticsearchOperations;
     private final TodoRepository todoRepository;
-    private final TodoUtils todoUtils;
+    private final TodoTitleSequenceService todoTitleSequenceService;
+    private final TodoTaskService todoTaskService;
+    private final TodoCacheService todoCacheService;
+    private final TodoIndexService todoIndexService;
+    private final TodoWriteBehindService todoWriteBehindService;
+    private final TodoProperties todoProperties;
+    private final Validator validator;
+    private final CursorUtils cursorUtils;
+    private final QueryUtils queryUtils;
+    private final ObjectMapper objectMapper;
+    private final MetricUtils metricUtils;
+    private final ExecutorService todoImportExecutor;
 
     @Override
     public TodoDto addTodo(Jwt jwt, TodoRequest todoRequest) {
@@ -47,42 +116,61 @@ public class TodoServiceImpl implements TodoService {
 
         TodoDto todoDto = TodoDto.fromRequest(todoRequest);
 
-        if (todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase(todoDto.getTitle(), username).isPresent()) {
-            Query query = NativeQuery.builder()
-                    .withQuery(q -> q
-                            .matchPhrase(r -> r
-                                    .field("title")
-                                    .query(todoDto.getTitle() + TITLE_LIKE_PATTERN_POSTFIX)
-                            )
-                    )
-                    .build();
-
-            SearchHits<TodoDocument> searchHits = elasticsearchOperations.search(query, TodoDocument.class);
-
-            List<TodoDocument> todosWithSameTitle = searchHits.stream().map(SearchHit::getContent).toList();
-
-            if (todosWithSameTitle.size() == 1) {
-                todoDto.setTitle(todoDto.getTitle() + String.format(TITLE_POSTFIX, 1));
-            } else if (todosWithSameTitle.size() > 1) {
-                int numberOfDuplicates = todoUtils.getDuplicateCount(todosWithSameTitle);
-                todoDto.setTitle(todoDto.getTitle() + String.format(TITLE_POSTFIX, numberOfDuplicates + 1));
-            }
+        long duplicateNumber = metricUtils.recordElasticsearchOperation(OPERATION_TITLE_SEQUENCE, () -> todoTitleSequenceService.reserve(username, todoDto.getTitle(), 1));
+
+        if (duplicateNumber > 0) {
+            todoDto.setTitle(todoDto.getTitle() + String.format(TITLE_POSTFIX, duplicateNumber));
         }
 
-        TodoDocument todo = new TodoDocument();
-        todo.setId(UUID.randomUUID());
-        todo.setTitle(todoDto.getTitle());
-        todo.setCategory(todoDto.getCategory());
-        todo.setText(todoDto.getText());
-        todo.setCompleted(todoDto.isCompleted());
-        todo.setCreatedAt(new Date());
-        todo.setOwner(username);
+        TodoDocument todo = createTodoDocument(todoDto, username);
 
-        todoRepository.save(todo);
+        if (todoProperties.isWriteBehindEnabled()) {
+            todoWriteBehindService.index(todo);
+        } else {
+            metricUtils.recordElasticsearchOperation(OPERATION_ADD, () -> todoRepository.save(todo));
+            todoCacheService.evictOwner(username);
+        }
+
+        todoDto.setId(todo.getId());
 
         return todoDto;
     }
 
+    @Override
+    public List<TodoBatchItemDto> addTodos(Jwt jwt, List<TodoRequest> todoRequests) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        if (todoRequests == null || todoRequests.isEmpty()) {
+            throw new IncorrectTodoBatchException(BATCH_EMPTY_MESSAGE);
+        }
+
+        if (todoRequests.size() > todoProperties.getBatchMaxSize()) {
+            throw new IncorrectTodoBatchException(String.format(BATCH_TOO_LARGE_MESSAGE, todoProperties.getBatchMaxSize()));
+        }
+
+        TodoBatchItemDto[] results = new TodoBatchItemDto[todoRequests.size()];
+        Map<Integer, TodoRequest> validTodoRequests = new LinkedHashMap<>();
+
+        for (int i = 0; i < todoRequests.size(); i++) {
+            TodoBatchItemDto invalidResult = validateTodoRequest(i, todoRequests.get(i));
+
+            if (invalidResult != null) {
+                results[i] = invalidResult;
+            } else {
+                validTodoRequests.put(i, todoRequests.get(i));
+            }
+        }
+
+        indexTodos(username, validTodoRequests, RefreshPolicy.WAIT_UNTIL)
+                .forEach(result -> results[result.getIndex()] = result);
+
+        return List.of(results);
+    }
+
     @Override
     public TodoDto changeCompleted(Jwt jwt, String title) {
         String username = jwt.getClaimAsString("preferred_username");
@@ -91,10 +179,10 @@ public class TodoServiceImpl implements TodoService {
             throw new UsernameNotFoundException("Username not found");
         }
 
-        TodoDocument todo = todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase(title, username)
+        TodoHitDto todoHit = metricUtils.recordElasticsearchOperation(OPERATION_FIND_BY_TITLE, () -> todoRepository.findHitByTitleIgnoreCaseAndOwnerIgnoreCase(title, username))
                 .orElseThrow(() -> new TodoNotFoundException(String.format("Todo \"%s\" not found", title)));
-        todo.setCompleted(!todo.isCompleted());
-        todoRepository.save(todo);
+        TodoDocument todo = toggleCompleted(username, todoHit);
+        todoCacheService.evictOwner(username);
 
         return TodoDto.fromDocument(todo);
     }
@@ -107,29 +195,95 @@ public class TodoServiceImpl implements TodoService {
             throw new UsernameNotFoundException("Username not found");
         }
 
-        TodoDocument todo = todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase(title, username)
+        TodoHitDto todoHit = metricUtils.recordElasticsearchOperation(OPERATION_FIND_BY_TITLE, () -> todoRepository.findHitByTitleIgnoreCaseAndOwnerIgnoreCase(title, username))
                 .orElseThrow(() -> new TodoNotFoundException(String.format("Todo \"%s\" not found", title)));
-        todoRepository.delete(todo);
+        deleteTodo(todoHit);
+        todoCacheService.evictOwner(username);
         return title;
     }
 
     @Override
-    public List<TodoDto> searchTodos(Jwt jwt, String searchString, PageRequest pageRequest) {
-        Query query = NativeQuery.builder()
-                .withQuery(q -> q
-                        .multiMatch(m -> m
-                                .fields(List.of("title", "text"))
-                                .query(searchString)
-                                .fuzziness("AUTO")
-                        )
-                )
+    public TodoDto getTodoById(Jwt jwt, UUID id) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return TodoDto.fromDocument(getUserTodoHitById(username, id).getTodo());
+    }
+
+    @Override
+    public TodoDto changeCompletedById(Jwt jwt, UUID id) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        TodoDocument todo = toggleCompleted(username, getUserTodoHitById(username, id));
+        todoCacheService.evictOwner(username);
+
+        return TodoDto.fromDocument(todo);
+    }
+
+    @Override
+    public String removeTodoById(Jwt jwt, UUID id) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        TodoHitDto todoHit = getUserTodoHitById(username, id);
+        deleteTodo(todoHit);
+        todoCacheService.evictOwner(username);
+        return todoHit.getTodo().getTitle();
+    }
+
+    @Override
+    public List<TodoDto> searchTodos(Jwt jwt, String searchString, boolean highlight, PageRequest pageRequest) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        Query query = queryUtils.searchQueryBuilder(username, searchString, highlight)
                 .withPageable(pageRequest)
+                .withRoute(getOwnerRouting(username))
                 .build();
 
-        return elasticsearchOperations
-                .search(query, TodoDocument.class)
-                .stream().map(SearchHit::getContent)
-                .map(TodoDto::fromDocument).toList();
+        return metricUtils.recordElasticsearchOperation(OPERATION_SEARCH, () -> elasticsearchOperations.search(query, TodoDocument.class))
+                .stream().map(TodoDto::fromSearchHit).toList();
+    }
+
+    @Override
+    public TodoPageDto searchTodos(Jwt jwt, String searchString, boolean highlight, String cursor, int size) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        NativeQueryBuilder queryBuilder = queryUtils.searchQueryBuilder(username, searchString, highlight)
+                .withSort(s -> s.score(o -> o.order(SortOrder.Desc)));
+
+        return searchPage(OPERATION_SEARCH, queryBuilder, getOwnerRouting(username), cursor, size);
+    }
+
+    @Override
+    public List<String> suggestTodoTitles(Jwt jwt, String prefix, int size) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        Query query = queryUtils.suggestQuery(username, prefix, size);
+
+        return metricUtils.recordElasticsearchOperation(OPERATION_SUGGEST, () -> elasticsearchOperations.search(query, TodoDocument.class))
+                .stream().map(searchHit -> searchHit.getContent().getTitle()).toList();
     }
 
     @Override
@@ -141,23 +295,60 @@ public class TodoServiceImpl implements TodoService {
         }
 
         return switch (filter) {
-            case FILTER_ALL_TODOS -> todoRepository
-                            .findAllByOwnerIgnoreCase(username, pageRequest)
-                            .getContent().stream().map(TodoDto::fromDocument).toList();
+            case FILTER_ALL_TODOS -> todoCacheService.getTodos(username, CACHE_TYPE_FILTER, filter, pageRequest, () -> metricUtils
+                            .recordElasticsearchOperation(OPERATION_LIST_BY_FILTER, () -> todoRepository.findAllByOwnerIgnoreCase(username, pageRequest))
+                            .getContent().stream().map(TodoDto::fromDocument).toList());
 
-            case FILTER_ONLY_COMPLETED_TODOS -> todoRepository
-                            .findAllByOwnerIgnoreCaseAndCompletedIsTrue(username, pageRequest)
-                            .getContent().stream().map(TodoDto::fromDocument).toList();
+            case FILTER_ONLY_COMPLETED_TODOS -> todoCacheService.getTodos(username, CACHE_TYPE_FILTER, filter, pageRequest, () -> metricUtils
+                            .recordElasticsearchOperation(OPERATION_LIST_BY_FILTER, () -> todoRepository.findAllByOwnerIgnoreCaseAndCompletedIsTrue(username, pageRequest))
+                            .getContent().stream().map(TodoDto::fromDocument).toList());
 
-            case FILTER_ONLY_NOT_COMPLETED_TODOS -> todoRepository
-                            .findAllByOwnerIgnoreCaseAndCompletedIsFalse(username, pageRequest)
-                            .getContent().stream().map(TodoDto::fromDocument).toList();
+            case FILTER_ONLY_NOT_COMPLETED_TODOS -> todoCacheService.getTodos(username, CACHE_TYPE_FILTER, filter, pageRequest, () -> metricUtils
+                            .recordElasticsearchOperation(OPERATION_LIST_BY_FILTER, () -> todoRepository.findAllByOwnerIgnoreCaseAndCompletedIsFalse(username, pageRequest))
+                            .getContent().stream().map(TodoDto::fromDocument).toList());
 
             default -> throw new IncorrectTodoFilterException(String.format("\"%s\" is incorrect filter", filter));
         };
 
     }
 
+    @Override
+    public TodoPageDto getAllUserTodosByFilter(Jwt jwt, String filter, Date from, Date to, String cursor, int size) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        if (!filter.equals(FILTER_ALL_TODOS)
+                && !filter.equals(FILTER_ONLY_COMPLETED_TODOS)
+                && !filter.equals(FILTER_ONLY_NOT_COMPLETED_TODOS)) {
+            throw new IncorrectTodoFilterException(String.format("\"%s\" is incorrect filter", filter));
+        }
+
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> {
+                            b.filter(f -> f.term(t -> t.field("owner.keyword").value(username)));
+
+                            if (!filter.equals(FILTER_ALL_TODOS)) {
+                                b.filter(f -> f.term(t -> t.field("completed").value(filter.equals(FILTER_ONLY_COMPLETED_TODOS))));
+                            }
+                            if (from != null || to != null) {
+                                b.filter(f -> f.range(r -> r
+                                        .field("created_at")
+                                        .gte(from != null ? JsonData.of(from.getTime()) : null)
+                                        .lte(to != null ? JsonData.of(to.getTime()) : null)
+                                ));
+                            }
+
+                            return b;
+                        })
+                );
+
+        return searchPage(OPERATION_LIST_BY_FILTER, queryBuilder, getOwnerRouting(username), cursor, size);
+    }
+
     @Override
     public List<TodoDto> getAllUserTodosByCategory(Jwt jwt, String category, PageRequest pageRequest) {
         String username = jwt.getClaimAsString("preferred_username");
@@ -166,9 +357,189 @@ public class TodoServiceImpl implements TodoService {
             throw new UsernameNotFoundException("Username not found");
         }
 
-        return todoRepository
-                .findAllByOwnerIgnoreCaseAndCategoryIgnoreCase(username, category, pageRequest)
-                .stream().map(TodoDto::fromDocument).toList();
+        return todoCacheService.getTodos(username, CACHE_TYPE_CATEGORY, category, pageRequest, () -> metricUtils
+                .recordElasticsearchOperation(OPERATION_LIST_BY_CATEGORY, () -> todoRepository.findAllByOwnerIgnoreCaseAndCategoryIgnoreCase(username, category, pageRequest))
+                .stream().map(TodoDto::fromDocument).toList());
+    }
+
+    @Override
+    public TodoPageDto getAllUserTodosByCategory(Jwt jwt, String category, String cursor, int size) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> b
+                                .filter(f -> f.term(t -> t.field("owner.keyword").value(username)))
+                                .filter(f -> f.term(t -> t.field("category.keyword").value(category)))
+                        )
+                );
+
+        return searchPage(OPERATION_LIST_BY_CATEGORY, queryBuilder, getOwnerRouting(username), cursor, size);
+    }
+
+    @Override
+    public TodoStatsDto getUserTodoStats(Jwt jwt) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        Query query = NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> b
+                                .filter(f -> f.term(t -> t.field("owner.keyword").value(username)))
+                        )
+                )
+                .withAggregation(STATS_CATEGORIES_AGGREGATION, Aggregation.of(a -> a
+                        .terms(t -> t.field("category.keyword").size(todoProperties.getStatsCategoriesMaxSize()))
+                ))
+                .withAggregation(STATS_COMPLETED_AGGREGATION, Aggregation.of(a -> a
+                        .filter(f -> f.term(t -> t.field("completed").value(true)))
+                ))
+                .withTrackTotalHits(true)
+                .withMaxResults(0)
+                .withRoute(getOwnerRouting(username))
+                .build();
+
+        SearchHits<TodoDocument> searchHits = metricUtils.recordElasticsearchOperation(OPERATION_STATS, () -> elasticsearchOperations.search(query, TodoDocument.class));
+        Map<String, ElasticsearchAggregation> aggregations = ((ElasticsearchAggregations) Objects.requireNonNull(searchHits.getAggregations()))
+                .aggregationsAsMap();
+
+        Map<String, Long> categories = new LinkedHashMap<>();
+        aggregations.get(STATS_CATEGORIES_AGGREGATION).aggregation().getAggregate().sterms().buckets().array()
+                .forEach(bucket -> categories.put(bucket.key().stringValue(), bucket.docCount()));
+
+        long total = searchHits.getTotalHits();
+        long completed = aggregations.get(STATS_COMPLETED_AGGREGATION).aggregation().getAggregate().filter().docCount();
+
+        return new TodoStatsDto(total, completed, total - completed, categories);
+    }
+
+    @Override
+    public void exportTodos(Jwt jwt, OutputStream outputStream) throws IOException {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        int batchSize = todoProperties.getExportBatchSize();
+        Duration keepAlive = Duration.ofMillis(todoProperties.getExportPointInTimeKeepAliveMs());
+        String pointInTimeId = openPointInTime(getOwnerRouting(username), keepAlive);
+        List<Object> searchAfter = null;
+
+        try {
+            while (true) {
+                NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                        .withQuery(q -> q
+                                .bool(b -> b
+                                        .filter(f -> f.term(t -> t.field("owner.keyword").value(username)))
+                                )
+                        )
+                        .withSourceFilter(new FetchSourceFilter(TODO_SOURCE_FIELDS, null))
+                        .withSort(s -> s.field(f -> f.field("created_at").order(SortOrder.Desc)))
+                        .withSort(s -> s.field(f -> f.field("id").order(SortOrder.Desc)))
+                        .withPointInTime(new Query.PointInTime(pointInTimeId, keepAlive))
+                        .withMaxResults(batchSize);
+
+                if (searchAfter != null) {
+                    queryBuilder.withSearchAfter(searchAfter);
+                }
+
+                Query query = queryBuilder.build();
+                SearchHits<TodoDocument> searchHits = metricUtils.recordElasticsearchOperation(OPERATION_EXPORT, () -> elasticsearchOperations.search(query, TodoDocument.class));
+
+                if (searchHits.getPointInTimeId() != null) {
+                    pointInTimeId = searchHits.getPointInTimeId();
+                }
+
+                for (SearchHit<TodoDocument> searchHit : searchHits) {
+                    outputStream.write(objectMapper.writeValueAsBytes(TodoDto.fromSearchHit(searchHit)));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+
+                if (searchHits.getSearchHits().size() < batchSize) {
+                    return;
+                }
+
+                searchAfter = searchHits.getSearchHit(searchHits.getSearchHits().size() - 1).getSortValues();
+            }
+        } finally {
+            closePointInTime(pointInTimeId);
+        }
+    }
+
+    @Override
+    public void importTodos(Jwt jwt, InputStream inputStream, OutputStream outputStream) throws IOException {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        int batchSize = todoProperties.getImportBatchSize();
+        int concurrency = todoProperties.getImportConcurrency();
+        Semaphore permits = new Semaphore(concurrency);
+        Lock outputLock = new ReentrantLock();
+        AtomicReference<IOException> outputFailure = new AtomicReference<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        Map<Integer, TodoRequest> batch = new LinkedHashMap<>();
+        boolean submitted = false;
+
+        try {
+            String line;
+            for (int index = 0; (line = reader.readLine()) != null && outputFailure.get() == null; index++) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                TodoBatchItemDto invalidResult;
+                try {
+                    TodoRequest todoRequest = objectMapper.readValue(line, TodoRequest.class);
+                    invalidResult = validateTodoRequest(index, todoRequest);
+
+                    if (invalidResult == null) {
+                        batch.put(index, todoRequest);
+                    }
+                } catch (JsonProcessingException e) {
+                    invalidResult = new TodoBatchItemDto(index, HttpStatus.BAD_REQUEST.value(), null, IMPORT_LINE_NOT_VALID_MESSAGE);
+                }
+
+                if (invalidResult != null) {
+                    writeImportResults(List.of(invalidResult), outputStream, outputLock);
+                }
+
+                if (batch.size() >= batchSize) {
+                    submitted = true;
+                    submitImportBatch(username, batch, permits, outputStream, outputLock, outputFailure);
+                    batch = new LinkedHashMap<>();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                submitted = true;
+                submitImportBatch(username, batch, permits, outputStream, outputLock, outputFailure);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Todo import has been interrupted", e);
+        } finally {
+            permits.acquireUninterruptibly(concurrency);
+
+            if (submitted) {
+                refreshImportedTodos(username);
+            }
+        }
+
+        if (outputFailure.get() != null) {
+            throw outputFailure.get();
+        }
     }
 
     @Override
@@ -179,18 +550,305 @@ public class TodoServiceImpl implements TodoService {
             throw new IncorrectUserEventPayloadException("Incorrect user event payload");
         }
 
-        List<TodoDocument> todos = todoRepository.findAllByOwnerIgnoreCase(userEventDto.getUsername());
-        todos.forEach(todo -> todo.setOwner(newUsername));
-        todoRepository.saveAll(todos);
+        metricUtils.recordElasticsearchOperation(OPERATION_CHANGE_OWNER, () -> todoTaskService.submitChangeOwner(userEventDto.getUsername(), newUsername));
+        metricUtils.recordElasticsearchOperation(OPERATION_TITLE_SEQUENCE, () -> todoTitleSequenceService.removeAllOwnerSequences(userEventDto.getUsername()));
+        todoCacheService.evictOwner(userEventDto.getUsername());
+        todoCacheService.evictOwner(newUsername);
 
         return true;
     }
 
     @Override
     public boolean removeAllUserTodos(UserEventDto userEventDto) {
-        List<TodoDocument> todos = todoRepository.findAllByOwnerIgnoreCase(userEventDto.getUsername());
-        todoRepository.deleteAll(todos);
+        metricUtils.recordElasticsearchOperation(OPERATION_REMOVE_OWNER, () -> todoTaskService.submitRemoveOwner(userEventDto.getUsername()));
+        metricUtils.recordElasticsearchOperation(OPERATION_TITLE_SEQUENCE, () -> todoTitleSequenceService.removeAllOwnerSequences(userEventDto.getUsername()));
+        todoCacheService.evictOwner(userEventDto.getUsername());
 
         return true;
     }
+
+    private TodoPageDto searchPage(String operation, NativeQueryBuilder queryBuilder, String routing, String cursor, int size) {
+        TodoCursorDto todoCursor = cursor.isBlank() ? new TodoCursorDto() : cursorUtils.decode(cursor);
+        Duration keepAlive = Duration.ofMillis(todoProperties.getCursorPointInTimeKeepAliveMs());
+        String pointInTimeId = todoCursor.getPointInTimeId();
+
+        if (pointInTimeId == null && !keepAlive.isZero()) {
+            pointInTimeId = openPointInTime(routing, keepAlive);
+        }
+
+        queryBuilder
+                .withSort(s -> s.field(f -> f.field("created_at").order(SortOrder.Desc)))
+                .withSort(s -> s.field(f -> f.field("id").order(SortOrder.Desc)))
+                .withMaxResults(size);
+
+        if (todoCursor.getSearchAfter() != null) {
+            queryBuilder.withSearchAfter(todoCursor.getSearchAfter());
+        }
+        if (pointInTimeId != null) {
+            queryBuilder.withPointInTime(new Query.PointInTime(pointInTimeId, keepAlive));
+        } else if (routing != null) {
+            queryBuilder.withRoute(routing);
+        }
+
+        Query query = queryBuilder.build();
+        SearchHits<TodoDocument> searchHits = metricUtils.recordElasticsearchOperation(operation, () -> elasticsearchOperations.search(query, TodoDocument.class));
+        List<TodoDto> todos = searchHits.stream().map(TodoDto::fromSearchHit).toList();
+
+        if (searchHits.getPointInTimeId() != null) {
+            pointInTimeId = searchHits.getPointInTimeId();
+        }
+
+        if (todos.size() < size) {
+            if (pointInTimeId != null) {
+                closePointInTime(pointInTimeId);
+            }
+            return new TodoPageDto(todos, null);
+        }
+
+        List<Object> searchAfter = searchHits.getSearchHit(todos.size() - 1).getSortValues();
+        return new TodoPageDto(todos, cursorUtils.encode(new TodoCursorDto(pointInTimeId, searchAfter)));
+    }
+
+    private String openPointInTime(String routing, Duration keepAlive) {
+        return metricUtils.recordElasticsearchOperation(OPERATION_OPEN_POINT_IN_TIME, () -> {
+            try {
+                return elasticsearchClient.openPointInTime(p -> p
+                        .index(TODO_INDEX)
+                        .keepAlive(k -> k.time(keepAlive.toMillis() + "ms"))
+                        .routing(routing)
+                ).id();
+            } catch (IOException e) {
+                throw new DataAccessResourceFailureException(e.getMessage(), e);
+            }
+        });
+    }
+
+    private void closePointInTime(String pointInTimeId) {
+        metricUtils.recordElasticsearchOperation(OPERATION_CLOSE_POINT_IN_TIME, () -> elasticsearchOperations.closePointInTime(pointInTimeId));
+    }
+
+    private TodoBatchItemDto validateTodoRequest(int index, TodoRequest todoRequest) {
+        if (todoRequest == null) {
+            return new TodoBatchItemDto(index, HttpStatus.BAD_REQUEST.value(), null, BATCH_ITEM_EMPTY_MESSAGE);
+        }
+
+        Set<ConstraintViolation<TodoRequest>> violations = validator.validate(todoRequest);
+
+        if (!violations.isEmpty()) {
+            String message = violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+            return new TodoBatchItemDto(index, HttpStatus.BAD_REQUEST.value(), todoRequest.getTitle(), message);
+        }
+
+        return null;
+    }
+
+    private void submitImportBatch(
+            String username,
+            Map<Integer, TodoRequest> batch,
+            Semaphore permits,
+            OutputStream outputStream,
+            Lock outputLock,
+            AtomicReference<IOException> outputFailure
+    ) throws InterruptedException {
+        permits.acquire();
+        try {
+            todoImportExecutor.execute(() -> {
+                try {
+                    List<TodoBatchItemDto> results;
+                    try {
+                        results = indexTodos(username, batch, RefreshPolicy.NONE);
+                    } catch (RuntimeException e) {
+                        results = batch.entrySet().stream()
+                                .map(entry -> new TodoBatchItemDto(
+                                        entry.getKey(),
+                                        HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                                        entry.getValue().getTitle(),
+                                        e.getMessage()
+                                ))
+                                .toList();
+                    }
+                    writeImportResults(
+                            results.stream().filter(result -> result.getStatus() != HttpStatus.CREATED.value()).toList(),
+                            outputStream,
+                            outputLock
+                    );
+                } catch (IOException e) {
+                    outputFailure.compareAndSet(null, e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void refreshImportedTodos(String username) {
+        try {
+            metricUtils.recordElasticsearchOperation(OPERATION_REFRESH, () -> elasticsearchOperations.indexOps(TodoDocument.class).refresh());
+        } finally {
+            todoCacheService.evictOwner(username);
+        }
+    }
+
+    private void writeImportResults(List<TodoBatchItemDto> results, OutputStream outputStream, Lock outputLock) throws IOException {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        outputLock.lock();
+        try {
+            for (TodoBatchItemDto result : results) {
+                outputStream.write(objectMapper.writeValueAsBytes(result));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } finally {
+            outputLock.unlock();
+        }
+    }
+
+    private List<TodoBatchItemDto> indexTodos(String username, Map<Integer, TodoRequest> todoRequests, RefreshPolicy refreshPolicy) {
+        Map<String, List<Integer>> indexesByTitle = new LinkedHashMap<>();
+        todoRequests.forEach((index, todoRequest) -> indexesByTitle
+                .computeIfAbsent(todoRequest.getTitle().trim().toLowerCase(Locale.ROOT), title -> new ArrayList<>())
+                .add(index));
+
+        List<TodoBatchItemDto> results = new ArrayList<>();
+        List<IndexQuery> indexQueries = new ArrayList<>();
+        Map<String, TodoBatchItemDto> resultsById = new HashMap<>();
+
+        for (List<Integer> indexes : indexesByTitle.values()) {
+            String title = todoRequests.get(indexes.get(0)).getTitle().trim();
+            long firstDuplicateNumber = metricUtils.recordElasticsearchOperation(OPERATION_TITLE_SEQUENCE, () -> todoTitleSequenceService.reserve(username, title, indexes.size()));
+
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                long duplicateNumber = firstDuplicateNumber + i;
+                TodoDto todoDto = TodoDto.fromRequest(todoRequests.get(index));
+
+                if (duplicateNumber > 0) {
+                    todoDto.setTitle(todoDto.getTitle() + String.format(TITLE_POSTFIX, duplicateNumber));
+                }
+
+                TodoDocument todo = createTodoDocument(todoDto, username);
+                indexQueries.add(new IndexQueryBuilder()
+                        .withId(todo.getId().toString())
+                        .withRouting(getOwnerRouting(username))
+                        .withObject(todo)
+                        .build());
+                TodoBatchItemDto result = new TodoBatchItemDto(
+                        index,
+                        HttpStatus.CREATED.value(),
+                        todoDto.getTitle(),
+                        String.format("Todo \"%s\" has been added", todoDto.getTitle())
+                );
+                results.add(result);
+                resultsById.put(todo.getId().toString(), result);
+            }
+        }
+
+        if (!indexQueries.isEmpty()) {
+            try {
+                metricUtils.recordElasticsearchOperation(OPERATION_ADD_BATCH, () -> elasticsearchOperations.bulkIndex(
+                        indexQueries,
+                        BulkOptions.builder().withRefreshPolicy(refreshPolicy).build(),
+                        TodoDocument.class
+                ));
+            } catch (BulkFailureException exception) {
+                exception.getFailedDocuments().forEach((id, failureDetails) -> {
+                    TodoBatchItemDto result = resultsById.get(id);
+                    result.setStatus(failureDetails.status() != null
+                            ? failureDetails.status()
+                            : HttpStatus.INTERNAL_SERVER_ERROR.value());
+                    result.setMessage(failureDetails.errorMessage());
+                });
+            }
+            todoCacheService.evictOwner(username);
+        }
+
+        return results;
+    }
+
+    private TodoDocument toggleCompleted(String username, TodoHitDto todoHit) {
+        if (todoProperties.isWriteBehindEnabled()) {
+            TodoDocument todo = todoHit.getTodo();
+            todoWriteBehindService.toggleCompleted(todoHit);
+            todo.setCompleted(!todo.isCompleted());
+            return todo;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            TodoDocument todo = todoHit.getTodo();
+            boolean completed = !todo.isCompleted();
+
+            if (updateCompleted(todoHit, completed)) {
+                todo.setCompleted(completed);
+                return todo;
+            }
+
+            if (attempt >= todoProperties.getToggleMaxAttempts()) {
+                throw new TodoConflictException(String.format("Todo \"%s\" is being modified concurrently", todo.getTitle()));
+            }
+
+            todoHit = getUserTodoHitById(username, todo.getId());
+        }
+    }
+
+    private void deleteTodo(TodoHitDto todoHit) {
+        if (todoProperties.isWriteBehindEnabled()) {
+            todoWriteBehindService.delete(todoHit);
+            return;
+        }
+
+        metricUtils.recordElasticsearchOperation(OPERATION_DELETE, () -> elasticsearchOperations
+                .withRefreshPolicy(RefreshPolicy.IMMEDIATE)
+                .delete(todoHit.getTodo(), IndexCoordinates.of(todoHit.getIndex())));
+    }
+
+    private boolean updateCompleted(TodoHitDto todoHit, boolean completed) {
+        TodoDocument todo = todoHit.getTodo();
+
+        try {
+            metricUtils.recordElasticsearchOperation(OPERATION_TOGGLE, () -> {
+                try {
+                    return elasticsearchClient.update(u -> u
+                            .index(todoHit.getIndex())
+                            .id(todo.getId().toString())
+                            .routing(getOwnerRouting(todo.getOwner()))
+                            .ifSeqNo(todoHit.getSeqNo())
+                            .ifPrimaryTerm(todoHit.getPrimaryTerm())
+                            .doc(Map.of("completed", completed))
+                            .refresh(Refresh.True), Void.class);
+                } catch (IOException e) {
+                    throw new DataAccessResourceFailureException(e.getMessage(), e);
+                }
+            });
+            return true;
+        } catch (ElasticsearchException e) {
+            if (e.status() == HttpStatus.CONFLICT.value()) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private TodoHitDto getUserTodoHitById(String username, UUID id) {
+        return metricUtils.recordElasticsearchOperation(OPERATION_FIND_BY_ID, () -> todoRepository.findHitByIdAndOwnerIgnoreCase(id, username, todoIndexService.getBackingIndices(false)))
+                .or(() -> metricUtils.recordElasticsearchOperation(OPERATION_FIND_BY_ID, () -> todoRepository.findHitByIdAndOwnerIgnoreCase(id, username, todoIndexService.getBackingIndices(true))))
+                .orElseThrow(() -> new TodoNotFoundException(String.format("Todo \"%s\" not found", id)));
+    }
+
+    private TodoDocument createTodoDocument(TodoDto todoDto, String username) {
+        TodoDocument todo = new TodoDocument();
+        todo.setId(UUID.randomUUID());
+        todo.setTitle(todoDto.getTitle());
+        todo.setCategory(todoDto.getCategory());
+        todo.setText(todoDto.getText());
+        todo.setCompleted(todoDto.isCompleted());
+        todo.setCreatedAt(new Date());
+        todo.setOwner(username);
+        return todo;
+    }
 }
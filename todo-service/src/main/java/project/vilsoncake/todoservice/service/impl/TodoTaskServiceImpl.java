@@ -0,0 +1,438 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.Slices;
+import co.elastic.clients.elasticsearch._types.SlicesCalculation;
+import co.elastic.clients.elasticsearch.tasks.GetTasksResponse;
+import co.elastic.clients.json.JsonData;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import project.vilsoncake.todoservice.document.TodoTaskDocument;
+import project.vilsoncake.todoservice.dto.TodoTaskDto;
+import project.vilsoncake.todoservice.property.TodoProperties;
+import project.vilsoncake.todoservice.repository.TodoTaskRepository;
+import project.vilsoncake.todoservice.service.TodoCacheService;
+import project.vilsoncake.todoservice.service.TodoTaskService;
+import project.vilsoncake.todoservice.service.TodoTitleSequenceService;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static project.vilsoncake.todoservice.constant.IndexConst.TODO_INDEX;
+import static project.vilsoncake.todoservice.constant.StorageConst.STORAGE_ELASTICSEARCH;
+import static project.vilsoncake.todoservice.constant.TaskConst.*;
+import static project.vilsoncake.todoservice.utils.RoutingUtils.getOwnerRouting;
+
+@Service
+@ConditionalOnProperty(prefix = "todo", name = "storage", havingValue = STORAGE_ELASTICSEARCH, matchIfMissing = true)
+@Slf4j
+@RequiredArgsConstructor
+public class TodoTaskServiceImpl implements TodoTaskService {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final TodoTaskRepository todoTaskRepository;
+    private final TodoProperties todoProperties;
+    private final TodoCacheService todoCacheService;
+    private final TodoTitleSequenceService todoTitleSequenceService;
+    private final Map<String, TodoTaskDocument> tasks = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean tasksLoaded;
+
+    @Override
+    public TodoTaskDto submitChangeOwner(String username, String newUsername) {
+        return addTask(TASK_TYPE_CHANGE_OWNER, username, newUsername);
+    }
+
+    @Override
+    public TodoTaskDto submitRemoveOwner(String username) {
+        return addTask(TASK_TYPE_REMOVE_OWNER, username, null);
+    }
+
+    @Override
+    public List<TodoTaskDto> getUserTasks(Jwt jwt) {
+        String username = jwt.getClaimAsString("preferred_username");
+
+        if (username == null) {
+            throw new UsernameNotFoundException("Username not found");
+        }
+
+        return todoTaskRepository.findAllByUsernameIgnoreCaseOrNewUsernameIgnoreCase(username).stream()
+                .map(TodoTaskDto::fromDocument)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.task-poll-interval-ms}")
+    @Override
+    public void pollTasks() {
+        if (!tasksLoaded) {
+            loadTasks();
+        }
+
+        List<TodoTaskDocument> expiredTasks;
+        List<TodoTaskDocument> runningTasks;
+
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            expiredTasks = tasks.values().stream()
+                    .filter(task -> isFinished(task) && now - task.getUpdatedAt().getTime() > todoProperties.getTaskRetentionMs())
+                    .toList();
+            expiredTasks.forEach(task -> tasks.remove(task.getId()));
+            runningTasks = tasks.values().stream()
+                    .filter(task -> task.getState().equals(TASK_STATE_RUNNING))
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+
+        expiredTasks.forEach(this::deleteTask);
+        runningTasks.forEach(this::refresh);
+
+        List<TodoTaskDocument> pendingTasks;
+
+        lock.lock();
+        try {
+            pendingTasks = tasks.values().stream()
+                    .filter(task -> task.getState().equals(TASK_STATE_PENDING))
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+
+        pendingTasks.forEach(this::startIfReady);
+    }
+
+    private TodoTaskDto addTask(String type, String username, String newUsername) {
+        String id = String.format(
+                TASK_ID_PATTERN,
+                type,
+                username.toLowerCase(Locale.ROOT),
+                newUsername != null ? newUsername.toLowerCase(Locale.ROOT) : ""
+        );
+        Optional<TodoTaskDocument> storedTask = todoTaskRepository.findById(id);
+
+        if (storedTask.isPresent() && !isFinished(storedTask.get())) {
+            lock.lock();
+            try {
+                return TodoTaskDto.fromDocument(tasks.computeIfAbsent(id, key -> storedTask.get()));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        TodoTaskDocument task = new TodoTaskDocument();
+        task.setId(id);
+        task.setType(type);
+        task.setUsername(username);
+        task.setNewUsername(newUsername);
+        task.setState(TASK_STATE_PENDING);
+        task.setCreatedAt(new Date());
+        task.setUpdatedAt(task.getCreatedAt());
+        storedTask.ifPresent(stored -> task.setSeqNoPrimaryTerm(stored.getSeqNoPrimaryTerm()));
+
+        todoTaskRepository.save(task);
+        TodoTaskDto todoTaskDto = TodoTaskDto.fromDocument(task);
+
+        lock.lock();
+        try {
+            tasks.remove(id);
+            tasks.put(id, task);
+        } finally {
+            lock.unlock();
+        }
+
+        return todoTaskDto;
+    }
+
+    private void loadTasks() {
+        try {
+            List<TodoTaskDocument> storedTasks = todoTaskRepository.findAllByStateIn(List.of(TASK_STATE_PENDING, TASK_STATE_RUNNING));
+
+            lock.lock();
+            try {
+                storedTasks.stream()
+                        .sorted(Comparator.comparing(TodoTaskDocument::getCreatedAt))
+                        .forEach(task -> tasks.putIfAbsent(task.getId(), task));
+            } finally {
+                lock.unlock();
+            }
+
+            tasksLoaded = true;
+            log.info("{} unfinished tasks resumed", storedTasks.size());
+        } catch (DataAccessException e) {
+            log.warn("Unfinished tasks could not be loaded: {}", e.getMessage());
+        }
+    }
+
+    private void startIfReady(TodoTaskDocument task) {
+        lock.lock();
+        try {
+            if (tasks.get(task.getId()) != task) {
+                return;
+            }
+
+            for (TodoTaskDocument other : tasks.values()) {
+                if (other == task) {
+                    break;
+                }
+                if (!isFinished(other) && sharesUser(task, other)) {
+                    return;
+                }
+            }
+
+            task.setAttempts(task.getAttempts() + 1);
+            task.setUpdatedAt(new Date());
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            String taskId = submit(task);
+            update(task, started -> {
+                started.setTaskId(taskId);
+                started.setState(TASK_STATE_RUNNING);
+            });
+            log.info("Task {} ({}) for user {} started as {}", task.getId(), task.getType(), task.getUsername(), taskId);
+        } catch (IOException | ElasticsearchException e) {
+            log.warn("Task {} ({}) for user {} could not be started: {}", task.getId(), task.getType(), task.getUsername(), e.getMessage());
+            retryOrFail(task, e.getMessage());
+        }
+    }
+
+    private String submit(TodoTaskDocument task) throws IOException {
+        return switch (task.getType()) {
+            case TASK_TYPE_CHANGE_OWNER -> isCaseOnlyRename(task)
+                    ? submitUpdateOwner(task.getUsername(), task.getNewUsername())
+                    : task.getStep() == 0
+                    ? elasticsearchClient.reindex(r -> r
+                            .source(s -> s
+                                    .index(TODO_INDEX)
+                                    .query(q -> q.term(t -> t.field("owner.keyword").value(task.getUsername())))
+                            )
+                            .dest(d -> d
+                                    .index(TODO_INDEX)
+                                    .routing(String.format(DESTINATION_ROUTING_PATTERN, getOwnerRouting(task.getNewUsername())))
+                            )
+                            .script(s -> s
+                                    .inline(i -> i
+                                            .source(CHANGE_OWNER_SCRIPT)
+                                            .params("newOwner", JsonData.of(task.getNewUsername()))
+                                    )
+                            )
+                            .conflicts(Conflicts.Proceed)
+                            .requestsPerSecond(todoProperties.getTaskRequestsPerSecond())
+                            .slices(getSlices())
+                            .refresh(true)
+                            .waitForCompletion(false)
+                    ).task()
+                    : submitDeleteOwner(task.getUsername());
+            case TASK_TYPE_REMOVE_OWNER -> submitDeleteOwner(task.getUsername());
+            default -> throw new IllegalStateException(String.format("Unknown task type \"%s\"", task.getType()));
+        };
+    }
+
+    private String submitUpdateOwner(String owner, String newOwner) throws IOException {
+        return elasticsearchClient.updateByQuery(u -> u
+                .index(TODO_INDEX)
+                .routing(getOwnerRouting(owner))
+                .query(q -> q.term(t -> t.field("owner.keyword").value(owner)))
+                .script(s -> s
+                        .inline(i -> i
+                                .source(CHANGE_OWNER_SCRIPT)
+                                .params("newOwner", JsonData.of(newOwner))
+                        )
+                )
+                .conflicts(Conflicts.Proceed)
+                .requestsPerSecond(todoProperties.getTaskRequestsPerSecond())
+                .slices(getSlices())
+                .refresh(true)
+                .waitForCompletion(false)
+        ).task();
+    }
+
+    private String submitDeleteOwner(String owner) throws IOException {
+        return elasticsearchClient.deleteByQuery(d -> d
+                .index(TODO_INDEX)
+                .routing(getOwnerRouting(owner))
+                .query(q -> q.term(t -> t.field("owner.keyword").value(owner)))
+                .conflicts(Conflicts.Proceed)
+                .requestsPerSecond(todoProperties.getTaskRequestsPerSecond())
+                .slices(getSlices())
+                .refresh(true)
+                .waitForCompletion(false)
+        ).task();
+    }
+
+    private void refresh(TodoTaskDocument task) {
+        GetTasksResponse response;
+        try {
+            response = elasticsearchClient.tasks().get(g -> g.taskId(task.getTaskId()));
+        } catch (ElasticsearchException e) {
+            if (e.status() == HttpStatus.NOT_FOUND.value()) {
+                retryOrFail(task, String.format("Task %s not found", task.getTaskId()));
+            } else {
+                log.warn("Task {} ({}) for user {} could not be checked: {}", task.getId(), task.getType(), task.getUsername(), e.getMessage());
+            }
+            return;
+        } catch (IOException e) {
+            log.warn("Task {} ({}) for user {} could not be checked: {}", task.getId(), task.getType(), task.getUsername(), e.getMessage());
+            return;
+        }
+
+        JsonData statusData = response.completed() && response.response() != null
+                ? response.response()
+                : response.task().status();
+        JsonObject status = statusData.toJson(elasticsearchClient._jsonpMapper()).asJsonObject();
+
+        if (!response.completed()) {
+            update(task, progressed -> setProgress(progressed, status));
+            log.info("Task {} ({}) for user {}: {}/{} processed", task.getId(), task.getType(), task.getUsername(), task.getProcessed(), task.getTotal());
+            return;
+        }
+
+        lock.lock();
+        try {
+            setProgress(task, status);
+        } finally {
+            lock.unlock();
+        }
+
+        boolean hasFailures = response.error() != null
+                || (status.containsKey("failures") && !status.getJsonArray("failures").isEmpty());
+
+        if (hasFailures) {
+            retryOrFail(task, response.error() != null ? response.error().reason() : status.getJsonArray("failures").toString());
+        } else if (task.getVersionConflicts() > 0) {
+            retryOrFail(task, String.format("%s version conflicts", task.getVersionConflicts()));
+        } else if (task.getType().equals(TASK_TYPE_CHANGE_OWNER) && task.getStep() == 0 && !isCaseOnlyRename(task)) {
+            removeNewOwnerSequences(task);
+            update(task, copied -> {
+                copied.setStep(1);
+                copied.setAttempts(0);
+                copied.setState(TASK_STATE_PENDING);
+            });
+            log.info("Task {} ({}) for user {}: todos copied to new routing, removing old copies", task.getId(), task.getType(), task.getUsername());
+            startIfReady(task);
+        } else {
+            if (task.getType().equals(TASK_TYPE_CHANGE_OWNER) && isCaseOnlyRename(task)) {
+                removeNewOwnerSequences(task);
+            }
+            update(task, completed -> {
+                completed.setState(TASK_STATE_COMPLETED);
+                completed.setMessage(null);
+            });
+            evictTaskUsers(task);
+            log.info("Task {} ({}) for user {} completed: {}/{} processed", task.getId(), task.getType(), task.getUsername(), task.getProcessed(), task.getTotal());
+        }
+    }
+
+    private void setProgress(TodoTaskDocument task, JsonObject status) {
+        task.setTotal(getLong(status, "total"));
+        task.setProcessed(getLong(status, "created") + getLong(status, "updated") + getLong(status, "deleted"));
+        task.setVersionConflicts(getLong(status, "version_conflicts"));
+    }
+
+    private void retryOrFail(TodoTaskDocument task, String message) {
+        boolean retry = task.getAttempts() < todoProperties.getTaskMaxAttempts();
+
+        update(task, failed -> {
+            failed.setMessage(message);
+            failed.setState(retry ? TASK_STATE_PENDING : TASK_STATE_FAILED);
+        });
+
+        if (!retry) {
+            evictTaskUsers(task);
+            log.error("Task {} ({}) for user {} failed after {} attempts: {}", task.getId(), task.getType(), task.getUsername(), task.getAttempts(), message);
+        }
+    }
+
+    private void update(TodoTaskDocument task, Consumer<TodoTaskDocument> change) {
+        lock.lock();
+        try {
+            change.accept(task);
+            task.setUpdatedAt(new Date());
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            todoTaskRepository.save(task);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Task {} ({}) for user {} has been taken over by another instance", task.getId(), task.getType(), task.getUsername());
+            lock.lock();
+            try {
+                tasks.remove(task.getId(), task);
+            } finally {
+                lock.unlock();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Task {} ({}) for user {} could not be saved: {}", task.getId(), task.getType(), task.getUsername(), e.getMessage());
+        }
+    }
+
+    private void deleteTask(TodoTaskDocument task) {
+        try {
+            todoTaskRepository.delete(task);
+        } catch (DataAccessException e) {
+            log.warn("Task {} ({}) for user {} could not be deleted: {}", task.getId(), task.getType(), task.getUsername(), e.getMessage());
+        }
+    }
+
+    private void removeNewOwnerSequences(TodoTaskDocument task) {
+        try {
+            todoTitleSequenceService.removeAllOwnerSequences(task.getNewUsername());
+        } catch (DataAccessException e) {
+            log.warn("Task {} ({}) for user {}: title sequences of {} could not be removed: {}", task.getId(), task.getType(), task.getUsername(), task.getNewUsername(), e.getMessage());
+        }
+    }
+
+    private void evictTaskUsers(TodoTaskDocument task) {
+        todoCacheService.evictOwner(task.getUsername());
+        if (task.getNewUsername() != null) {
+            todoCacheService.evictOwner(task.getNewUsername());
+        }
+    }
+
+    private Slices getSlices() {
+        if (todoProperties.getTaskSlices() > 0) {
+            return Slices.of(s -> s.value(todoProperties.getTaskSlices()));
+        }
+        return Slices.of(s -> s.computed(SlicesCalculation.Auto));
+    }
+
+    private long getLong(JsonObject jsonObject, String key) {
+        JsonNumber value = jsonObject.getJsonNumber(key);
+        return value != null ? value.longValue() : 0;
+    }
+
+    private boolean isFinished(TodoTaskDocument task) {
+        return task.getState().equals(TASK_STATE_COMPLETED) || task.getState().equals(TASK_STATE_FAILED);
+    }
+
+    private boolean isCaseOnlyRename(TodoTaskDocument task) {
+        return getOwnerRouting(task.getUsername()).equals(getOwnerRouting(task.getNewUsername()));
+    }
+
+    private boolean sharesUser(TodoTaskDocument task, TodoTaskDocument other) {
+        return involvesUser(other, task.getUsername())
+                || (task.getNewUsername() != null && involvesUser(other, task.getNewUsername()));
+    }
+
+    private boolean involvesUser(TodoTaskDocument task, String username) {
+        return username.equalsIgnoreCase(task.getUsername()) || username.equalsIgnoreCase(task.getNewUsername());
+    }
+}
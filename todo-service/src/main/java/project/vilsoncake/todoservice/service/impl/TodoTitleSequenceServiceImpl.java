@@ -0,0 +1,142 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Result;
+import co.elastic.clients.elasticsearch.core.UpdateResponse;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.stereotype.Service;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.document.TodoTitleSequenceDocument;
+import project.vilsoncake.todoservice.repository.TodoTitleSequenceRepository;
+import project.vilsoncake.todoservice.service.TodoTitleSequenceService;
+import project.vilsoncake.todoservice.utils.TodoUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static project.vilsoncake.todoservice.constant.IndexConst.*;
+import static project.vilsoncake.todoservice.constant.PatternConst.TITLE_LIKE_PATTERN_POSTFIX;
+import static project.vilsoncake.todoservice.constant.StorageConst.STORAGE_ELASTICSEARCH;
+import static project.vilsoncake.todoservice.utils.RoutingUtils.getOwnerRouting;
+
+@Service
+@ConditionalOnProperty(prefix = "todo", name = "storage", havingValue = STORAGE_ELASTICSEARCH, matchIfMissing = true)
+@RequiredArgsConstructor
+public class TodoTitleSequenceServiceImpl implements TodoTitleSequenceService {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final TodoTitleSequenceRepository todoTitleSequenceRepository;
+    private final TodoUtils todoUtils;
+
+    @Override
+    public long reserve(String owner, String title, int count) {
+        String normalizedOwner = owner.toLowerCase(Locale.ROOT);
+        String normalizedTitle = title.toLowerCase(Locale.ROOT);
+        String id = String.format(TITLE_SEQUENCE_ID_PATTERN, normalizedOwner, getTitleHash(normalizedTitle));
+
+        UpdateResponse<TodoTitleSequenceDocument> response = update(
+                id,
+                Map.of("count", JsonData.of(count)),
+                new TodoTitleSequenceDocument(id, normalizedOwner, normalizedTitle, 0)
+        );
+
+        if (response.result() == Result.NoOp) {
+            int offset = getExistingTitlesOffset(normalizedOwner, normalizedTitle);
+
+            response = update(
+                    id,
+                    Map.of("count", JsonData.of(count), "offset", JsonData.of(offset)),
+                    new TodoTitleSequenceDocument(id, normalizedOwner, normalizedTitle, 0)
+            );
+        }
+
+        return response.get().source().getCount() - count;
+    }
+
+    @Override
+    public boolean removeAllOwnerSequences(String owner) {
+        todoTitleSequenceRepository.deleteAllByOwner(owner.toLowerCase(Locale.ROOT));
+        return true;
+    }
+
+    private String getTitleHash(String normalizedTitle) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(TITLE_SEQUENCE_ID_DIGEST_ALGORITHM);
+            return HexFormat.of().formatHex(digest.digest(normalizedTitle.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private UpdateResponse<TodoTitleSequenceDocument> update(
+            String id,
+            Map<String, JsonData> params,
+            TodoTitleSequenceDocument upsert
+    ) {
+        try {
+            return elasticsearchClient.update(u -> u
+                            .index(TITLE_SEQUENCE_INDEX)
+                            .id(id)
+                            .script(s -> s
+                                    .inline(i -> i
+                                            .source(TITLE_SEQUENCE_RESERVE_SCRIPT)
+                                            .params(params)
+                                    )
+                            )
+                            .scriptedUpsert(true)
+                            .upsert(upsert)
+                            .retryOnConflict(3)
+                            .source(c -> c.fetch(true)),
+                    TodoTitleSequenceDocument.class
+            );
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(e.getMessage(), e);
+        }
+    }
+
+    private int getExistingTitlesOffset(String owner, String title) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> b
+                                .filter(f -> f.term(t -> t.field("owner.keyword").value(owner)))
+                                .filter(f -> f
+                                        .bool(s -> s
+                                                .should(r -> r.term(t -> t.field("title.keyword").value(title)))
+                                                .should(r -> r.prefix(p -> p
+                                                        .field("title.keyword")
+                                                        .value(title + TITLE_LIKE_PATTERN_POSTFIX)
+                                                ))
+                                                .minimumShouldMatch("1")
+                                        )
+                                )
+                        )
+                )
+                .withPageable(PageRequest.of(0, TITLE_SEQUENCE_SEED_LIMIT))
+                .withRoute(getOwnerRouting(owner))
+                .build();
+
+        List<TodoDocument> todosWithSameTitle = elasticsearchOperations
+                .search(query, TodoDocument.class)
+                .stream().map(SearchHit::getContent).toList();
+
+        if (todosWithSameTitle.isEmpty()) {
+            return 0;
+        }
+
+        return todoUtils.getDuplicateCount(todosWithSameTitle) + 1;
+    }
+}
@@ -0,0 +1,249 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.stereotype.Service;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoHitDto;
+import project.vilsoncake.todoservice.dto.TodoWriteDto;
+import project.vilsoncake.todoservice.exception.TodoWriteRejectedException;
+import project.vilsoncake.todoservice.property.TodoProperties;
+import project.vilsoncake.todoservice.service.TodoCacheService;
+import project.vilsoncake.todoservice.service.TodoWriteBehindService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static project.vilsoncake.todoservice.constant.IndexConst.TODO_INDEX;
+import static project.vilsoncake.todoservice.constant.IndexConst.TOGGLE_COMPLETED_SCRIPT;
+import static project.vilsoncake.todoservice.constant.MetricConst.TODO_WRITE_BEHIND_QUEUE_SIZE;
+import static project.vilsoncake.todoservice.constant.StorageConst.STORAGE_ELASTICSEARCH;
+import static project.vilsoncake.todoservice.utils.RoutingUtils.getOwnerRouting;
+
+@Service
+@ConditionalOnProperty(prefix = "todo", name = "storage", havingValue = STORAGE_ELASTICSEARCH, matchIfMissing = true)
+@Slf4j
+public class TodoWriteBehindServiceImpl implements TodoWriteBehindService {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final TodoCacheService todoCacheService;
+    private final TodoProperties todoProperties;
+    private final BlockingQueue<TodoWriteDto> queue;
+    private final Thread worker;
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+
+    public TodoWriteBehindServiceImpl(
+            ElasticsearchClient elasticsearchClient,
+            ElasticsearchOperations elasticsearchOperations,
+            TodoCacheService todoCacheService,
+            TodoProperties todoProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.todoCacheService = todoCacheService;
+        this.todoProperties = todoProperties;
+        this.queue = new ArrayBlockingQueue<>(todoProperties.getWriteBehindQueueCapacity());
+        this.worker = new Thread(this::run, "todo-write-behind");
+        this.worker.setDaemon(true);
+        Gauge.builder(TODO_WRITE_BEHIND_QUEUE_SIZE, queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (todoProperties.isWriteBehindEnabled()) {
+            running = true;
+            worker.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!todoProperties.isWriteBehindEnabled()) {
+            return;
+        }
+
+        shutdownLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+
+        worker.join();
+        flush();
+    }
+
+    @Override
+    public CompletableFuture<Void> index(TodoDocument todo) {
+        Document document = Document.create();
+        elasticsearchOperations.getElasticsearchConverter().write(todo, document);
+
+        return submit(todo.getOwner(), BulkOperation.of(o -> o
+                .index(i -> i
+                        .index(TODO_INDEX)
+                        .id(todo.getId().toString())
+                        .routing(getOwnerRouting(todo.getOwner()))
+                        .document(document)
+                )
+        ));
+    }
+
+    @Override
+    public CompletableFuture<Void> toggleCompleted(TodoHitDto todoHit) {
+        TodoDocument todo = todoHit.getTodo();
+
+        return submit(todo.getOwner(), BulkOperation.of(o -> o
+                .update(u -> u
+                        .index(todoHit.getIndex())
+                        .id(todo.getId().toString())
+                        .routing(getOwnerRouting(todo.getOwner()))
+                        .action(a -> a.script(s -> s.inline(i -> i.source(TOGGLE_COMPLETED_SCRIPT))))
+                )
+        ));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(TodoHitDto todoHit) {
+        TodoDocument todo = todoHit.getTodo();
+
+        return submit(todo.getOwner(), BulkOperation.of(o -> o
+                .delete(d -> d
+                        .index(todoHit.getIndex())
+                        .id(todo.getId().toString())
+                        .routing(getOwnerRouting(todo.getOwner()))
+                )
+        ));
+    }
+
+    @Override
+    public void flush() {
+        List<TodoWriteDto> batch = new ArrayList<>();
+
+        while (queue.drainTo(batch, todoProperties.getWriteBehindBatchMaxSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private CompletableFuture<Void> submit(String owner, BulkOperation operation) {
+        TodoWriteDto todoWrite = new TodoWriteDto(owner, operation, new CompletableFuture<>());
+
+        shutdownLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new TodoWriteRejectedException("Todo writes are not accepted right now");
+            }
+            if (!queue.offer(todoWrite, todoProperties.getWriteBehindOfferTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                throw new TodoWriteRejectedException("Too many pending todo writes, try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TodoWriteRejectedException("Todo write has been interrupted");
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+
+        return todoWrite.getResult();
+    }
+
+    private void run() {
+        int batchMaxSize = todoProperties.getWriteBehindBatchMaxSize();
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(todoProperties.getWriteBehindFlushIntervalMs());
+        List<TodoWriteDto> batch = new ArrayList<>(batchMaxSize);
+
+        while (running) {
+            try {
+                TodoWriteDto first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+
+                while (batch.size() < batchMaxSize) {
+                    queue.drainTo(batch, batchMaxSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+
+                    if (batch.size() >= batchMaxSize || remaining <= 0) {
+                        break;
+                    }
+
+                    TodoWriteDto next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+                    if (next == null) {
+                        break;
+                    }
+
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<TodoWriteDto> batch) {
+        BulkResponse response;
+        try {
+            response = elasticsearchClient.bulk(b -> b
+                    .refresh(Refresh.WaitFor)
+                    .operations(batch.stream().map(TodoWriteDto::getOperation).toList()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Write-behind bulk of {} todo operations failed: {}", batch.size(), e.getMessage());
+            RuntimeException exception = e instanceof IOException
+                    ? new DataAccessResourceFailureException(e.getMessage(), e)
+                    : (RuntimeException) e;
+            batch.forEach(todoWrite -> todoWrite.getResult().completeExceptionally(exception));
+            return;
+        }
+
+        batch.stream()
+                .map(TodoWriteDto::getOwner)
+                .distinct()
+                .forEach(todoCacheService::evictOwner);
+
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < batch.size(); i++) {
+            TodoWriteDto todoWrite = batch.get(i);
+            BulkResponseItem item = items.get(i);
+
+            if (item.error() != null) {
+                log.warn("Write-behind todo operation on \"{}\" failed: {}", item.id(), item.error().reason());
+                todoWrite.getResult().completeExceptionally(new DataAccessResourceFailureException(item.error().reason()));
+            } else {
+                todoWrite.getResult().complete(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package project.vilsoncake.todoservice.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoDocumentPageDto;
+import project.vilsoncake.todoservice.dto.TodoStatsDto;
+import project.vilsoncake.todoservice.property.TodoProperties;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static project.vilsoncake.todoservice.constant.IndexConst.*;
+import static project.vilsoncake.todoservice.constant.StorageConst.STORAGE_IN_MEMORY;
+import static project.vilsoncake.todoservice.utils.RoutingUtils.getOwnerRouting;
+
+@Component
+@ConditionalOnProperty(prefix = "todo", name = "storage", havingValue = STORAGE_IN_MEMORY)
+@RequiredArgsConstructor
+public class InMemoryTodoStorage implements TodoStorage {
+
+    private final TodoProperties todoProperties;
+    private final Map<String, OwnerTodoIndex> indexes = new ConcurrentHashMap<>();
+
+    @Override
+    public long reserveTitle(String owner, String title, int count) {
+        return write(owner, index -> index.reserveTitle(title, count));
+    }
+
+    @Override
+    public void save(TodoDocument todo) {
+        TodoDocument copy = copy(todo);
+        write(todo.getOwner(), index -> {
+            index.add(copy);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<TodoDocument> findById(String owner, UUID id) {
+        return Optional.ofNullable(read(owner, index -> copy(index.get(id))));
+    }
+
+    @Override
+    public Optional<TodoDocument> findByTitle(String owner, String title) {
+        return Optional.ofNullable(read(owner, index -> copy(index.getByTitle(title))));
+    }
+
+    @Override
+    public Optional<TodoDocument> toggleCompleted(String owner, UUID id) {
+        return Optional.ofNullable(write(owner, index -> copy(index.toggleCompleted(id))));
+    }
+
+    @Override
+    public Optional<TodoDocument> delete(String owner, UUID id) {
+        return Optional.ofNullable(write(owner, index -> index.remove(id)));
+    }
+
+    @Override
+    public List<TodoDocument> findAll(String owner, Boolean completed, String category, Date from, Date to, int offset, int size) {
+        return read(owner, index -> page(index.findAll(completed, category, from, to), offset, size), List.of());
+    }
+
+    @Override
+    public TodoDocumentPageDto findAll(String owner, Boolean completed, String category, Date from, Date to, List<Object> searchAfter, int size) {
+        return read(owner, index -> {
+            List<TodoDocument> todos = index.findAll(completed, category, from, to);
+            int start = searchAfter != null ? after(todos, getSearchAfterTodo(searchAfter), OwnerTodoIndex.NEWEST_FIRST) : 0;
+            List<TodoDocument> page = page(todos, start, size);
+
+            if (page.size() < size) {
+                return new TodoDocumentPageDto(page, null);
+            }
+
+            TodoDocument last = page.get(page.size() - 1);
+            return new TodoDocumentPageDto(page, List.of(last.getCreatedAt().getTime(), last.getId().toString()));
+        }, new TodoDocumentPageDto(List.of(), null));
+    }
+
+    @Override
+    public List<TodoDocument> search(String owner, String searchString, int offset, int size) {
+        return read(owner, index -> page(index.search(
+                searchString,
+                todoProperties.isInMemorySearchFuzzyEnabled(),
+                todoProperties.getSearchFuzzyPrefixLength(),
+                todoProperties.getSearchFuzzyMaxExpansions()
+        ), offset, size), List.of());
+    }
+
+    @Override
+    public TodoDocumentPageDto search(String owner, String searchString, List<Object> searchAfter, int size) {
+        return read(owner, index -> {
+            List<ScoredTodo> hits = index.searchScored(
+                    searchString,
+                    todoProperties.isInMemorySearchFuzzyEnabled(),
+                    todoProperties.getSearchFuzzyPrefixLength(),
+                    todoProperties.getSearchFuzzyMaxExpansions()
+            );
+            int start = searchAfter != null
+                    ? after(hits, new ScoredTodo(getSearchAfterTodo(searchAfter), ((Number) searchAfter.get(0)).doubleValue()), ScoredTodo.BEST_FIRST)
+                    : 0;
+            List<ScoredTodo> page = hits.subList(Math.min(start, hits.size()), Math.min(start + size, hits.size()));
+            List<TodoDocument> todos = page.stream().map(ScoredTodo::todo).map(this::copy).toList();
+
+            if (todos.size() < size) {
+                return new TodoDocumentPageDto(todos, null);
+            }
+
+            ScoredTodo last = page.get(page.size() - 1);
+            return new TodoDocumentPageDto(todos, List.of(last.score(), last.todo().getCreatedAt().getTime(), last.todo().getId().toString()));
+        }, new TodoDocumentPageDto(List.of(), null));
+    }
+
+    @Override
+    public Map<UUID, Map<String, List<String>>> highlight(String owner, String searchString, List<TodoDocument> todos) {
+        Set<String> searchTerms = read(owner, index -> index.getSearchTerms(
+                searchString,
+                todoProperties.isInMemorySearchFuzzyEnabled(),
+                todoProperties.getSearchFuzzyPrefixLength(),
+                todoProperties.getSearchFuzzyMaxExpansions()
+        ), Set.of());
+        Map<UUID, Map<String, List<String>>> highlights = new HashMap<>();
+
+        for (TodoDocument todo : todos) {
+            Map<String, List<String>> todoHighlights = new LinkedHashMap<>();
+            String title = OwnerTodoIndex.highlight(todo.getTitle(), searchTerms, HIGHLIGHT_PRE_TAG, HIGHLIGHT_POST_TAG);
+            String text = OwnerTodoIndex.highlight(todo.getText(), searchTerms, HIGHLIGHT_PRE_TAG, HIGHLIGHT_POST_TAG);
+
+            if (title != null) {
+                todoHighlights.put("title", List.of(title));
+            }
+            todoHighlights.put("text", List.of(text != null
+                    ? text
+                    : todo.getText().substring(0, Math.min(HIGHLIGHT_FRAGMENT_SIZE, todo.getText().length()))));
+            highlights.put(todo.getId(), todoHighlights);
+        }
+
+        return highlights;
+    }
+
+    @Override
+    public List<String> suggestTitles(String owner, String prefix, int size) {
+        return read(owner, index -> index.suggestTitles(prefix).stream().limit(size).toList(), List.of());
+    }
+
+    @Override
+    public TodoStatsDto getStats(String owner) {
+        return read(
+                owner,
+                index -> index.getStats(todoProperties.getStatsCategoriesMaxSize()),
+                new TodoStatsDto(0, 0, 0, Map.of())
+        );
+    }
+
+    @Override
+    public long changeOwner(String owner, String newOwner) {
+        OwnerTodoIndex index = detach(owner);
+
+        if (index == null) {
+            return 0;
+        }
+
+        List<TodoDocument> todos = lock(index.lock.readLock(), index::all);
+        Map<String, Long> titleSequences = lock(index.lock.readLock(), index::getTitleSequences);
+
+        return write(newOwner, newIndex -> {
+            todos.forEach(todo -> {
+                TodoDocument copy = copy(todo);
+                copy.setOwner(newOwner);
+                newIndex.add(copy);
+            });
+            newIndex.mergeTitleSequences(titleSequences);
+            return (long) todos.size();
+        });
+    }
+
+    @Override
+    public long removeOwner(String owner) {
+        OwnerTodoIndex index = detach(owner);
+        return index != null ? lock(index.lock.readLock(), index::all).size() : 0;
+    }
+
+    private <T> T read(String owner, Function<OwnerTodoIndex, T> action) {
+        return read(owner, action, null);
+    }
+
+    private <T> T read(String owner, Function<OwnerTodoIndex, T> action, T defaultValue) {
+        OwnerTodoIndex index = indexes.get(getOwnerRouting(owner));
+
+        if (index == null) {
+            return defaultValue;
+        }
+
+        return lock(index.lock.readLock(), () -> action.apply(index));
+    }
+
+    private <T> T write(String owner, Function<OwnerTodoIndex, T> action) {
+        String routing = getOwnerRouting(owner);
+
+        while (true) {
+            OwnerTodoIndex index = indexes.computeIfAbsent(routing, key -> new OwnerTodoIndex());
+            Lock writeLock = index.lock.writeLock();
+
+            writeLock.lock();
+            try {
+                if (!index.removed) {
+                    return action.apply(index);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private OwnerTodoIndex detach(String owner) {
+        String routing = getOwnerRouting(owner);
+
+        while (true) {
+            OwnerTodoIndex index = indexes.get(routing);
+
+            if (index == null) {
+                return null;
+            }
+
+            Lock writeLock = index.lock.writeLock();
+
+            writeLock.lock();
+            try {
+                if (!index.removed) {
+                    index.removed = true;
+                    indexes.remove(routing, index);
+                    return index;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private <T> T lock(Lock lock, Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> int after(List<T> sorted, T searchAfter, Comparator<? super T> order) {
+        int position = Collections.binarySearch(sorted, searchAfter, order);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private TodoDocument getSearchAfterTodo(List<Object> searchAfter) {
+        TodoDocument todo = new TodoDocument();
+        todo.setCreatedAt(new Date(((Number) searchAfter.get(searchAfter.size() - 2)).longValue()));
+        todo.setId(UUID.fromString((String) searchAfter.get(searchAfter.size() - 1)));
+        return todo;
+    }
+
+    private List<TodoDocument> page(List<TodoDocument> todos, int offset, int size) {
+        return todos.stream().skip(offset).limit(size).map(this::copy).toList();
+    }
+
+    private TodoDocument copy(TodoDocument todo) {
+        if (todo == null) {
+            return null;
+        }
+
+        TodoDocument copy = new TodoDocument();
+        copy.setId(todo.getId());
+        copy.setTitle(todo.getTitle());
+        copy.setCategory(todo.getCategory());
+        copy.setText(todo.getText());
+        copy.setCreatedAt(todo.getCreatedAt());
+        copy.setCompleted(todo.isCompleted());
+        copy.setOwner(todo.getOwner());
+        return copy;
+    }
+}
@@ -0,0 +1,354 @@
+package project.vilsoncake.todoservice.storage;
+
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoStatsDto;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static project.vilsoncake.todoservice.constant.PatternConst.REGEX_TOKEN_PATTERN;
+import static project.vilsoncake.todoservice.constant.PatternConst.REGEX_TOKEN_SEPARATOR_PATTERN;
+
+class OwnerTodoIndex {
+
+    private static final Pattern TOKEN_SEPARATOR_PATTERN = Pattern.compile(REGEX_TOKEN_SEPARATOR_PATTERN);
+    private static final Pattern TOKEN_PATTERN = Pattern.compile(REGEX_TOKEN_PATTERN);
+    static final Comparator<TodoDocument> NEWEST_FIRST = Comparator
+            .comparing(TodoDocument::getCreatedAt)
+            .thenComparing(todo -> todo.getId().toString())
+            .reversed();
+
+    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    boolean removed;
+
+    private final List<TodoDocument> todos = new ArrayList<>();
+    private final Map<UUID, Integer> docIdsById = new HashMap<>();
+    private final Map<String, BitSet> docIdsByTitle = new HashMap<>();
+    private final NavigableMap<String, BitSet> titlePostings = new TreeMap<>();
+    private final Map<String, BitSet> textPostings = new HashMap<>();
+    private final NavigableMap<String, Integer> terms = new TreeMap<>();
+    private final Map<String, BitSet> categoryPostings = new HashMap<>();
+    private final Map<String, Long> titleSequences = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final BitSet completed = new BitSet();
+
+    long reserveTitle(String title, int count) {
+        String key = normalize(title);
+        long first = titleSequences.getOrDefault(key, 0L);
+        titleSequences.put(key, first + count);
+        return first;
+    }
+
+    Map<String, Long> getTitleSequences() {
+        return Map.copyOf(titleSequences);
+    }
+
+    void mergeTitleSequences(Map<String, Long> sequences) {
+        sequences.forEach((key, count) -> titleSequences.merge(key, count, Math::max));
+    }
+
+    void add(TodoDocument todo) {
+        remove(todo.getId());
+
+        int docId = live.nextClearBit(0);
+        if (docId == todos.size()) {
+            todos.add(todo);
+        } else {
+            todos.set(docId, todo);
+        }
+
+        docIdsById.put(todo.getId(), docId);
+        docIdsByTitle.computeIfAbsent(normalize(todo.getTitle()), ignored -> new BitSet()).set(docId);
+        tokenize(todo.getTitle()).forEach(token -> addTerm(titlePostings, token, docId));
+        tokenize(todo.getText()).forEach(token -> addTerm(textPostings, token, docId));
+        categoryPostings.computeIfAbsent(normalize(todo.getCategory()), ignored -> new BitSet()).set(docId);
+        live.set(docId);
+        completed.set(docId, todo.isCompleted());
+    }
+
+    TodoDocument remove(UUID id) {
+        Integer docId = docIdsById.remove(id);
+
+        if (docId == null) {
+            return null;
+        }
+
+        TodoDocument todo = todos.get(docId);
+        clear(docIdsByTitle, normalize(todo.getTitle()), docId);
+        tokenize(todo.getTitle()).forEach(token -> removeTerm(titlePostings, token, docId));
+        tokenize(todo.getText()).forEach(token -> removeTerm(textPostings, token, docId));
+        clear(categoryPostings, normalize(todo.getCategory()), docId);
+        live.clear(docId);
+        completed.clear(docId);
+        todos.set(docId, null);
+
+        return todo;
+    }
+
+    TodoDocument get(UUID id) {
+        Integer docId = docIdsById.get(id);
+        return docId != null ? todos.get(docId) : null;
+    }
+
+    TodoDocument getByTitle(String title) {
+        BitSet docIds = docIdsByTitle.get(normalize(title));
+        return docIds != null ? todos.get(docIds.nextSetBit(0)) : null;
+    }
+
+    TodoDocument toggleCompleted(UUID id) {
+        Integer docId = docIdsById.get(id);
+
+        if (docId == null) {
+            return null;
+        }
+
+        TodoDocument todo = todos.get(docId);
+        todo.setCompleted(!todo.isCompleted());
+        completed.set(docId, todo.isCompleted());
+
+        return todo;
+    }
+
+    List<TodoDocument> findAll(Boolean completedFilter, String category, Date from, Date to) {
+        BitSet candidates = (BitSet) live.clone();
+
+        if (completedFilter != null) {
+            if (completedFilter) {
+                candidates.and(completed);
+            } else {
+                candidates.andNot(completed);
+            }
+        }
+        if (category != null) {
+            candidates.and(categoryPostings.getOrDefault(normalize(category), new BitSet()));
+        }
+
+        List<TodoDocument> result = new ArrayList<>(candidates.cardinality());
+        for (int docId = candidates.nextSetBit(0); docId >= 0; docId = candidates.nextSetBit(docId + 1)) {
+            TodoDocument todo = todos.get(docId);
+
+            if ((from == null || !todo.getCreatedAt().before(from)) && (to == null || !todo.getCreatedAt().after(to))) {
+                result.add(todo);
+            }
+        }
+        result.sort(NEWEST_FIRST);
+
+        return result;
+    }
+
+    List<TodoDocument> search(String searchString, boolean fuzzy, int prefixLength, int maxExpansions) {
+        return searchScored(searchString, fuzzy, prefixLength, maxExpansions).stream().map(ScoredTodo::todo).toList();
+    }
+
+    List<ScoredTodo> searchScored(String searchString, boolean fuzzy, int prefixLength, int maxExpansions) {
+        Map<Integer, Double> scores = new HashMap<>();
+
+        for (String token : tokenize(searchString)) {
+            score(scores, titlePostings.get(token), 2.0);
+            score(scores, textPostings.get(token), 1.0);
+
+            if (fuzzy) {
+                for (String expansion : expand(token, prefixLength, maxExpansions)) {
+                    score(scores, titlePostings.get(expansion), 1.0);
+                    score(scores, textPostings.get(expansion), 0.5);
+                }
+            }
+        }
+
+        return scores.entrySet().stream()
+                .map(entry -> new ScoredTodo(todos.get(entry.getKey()), entry.getValue()))
+                .sorted(ScoredTodo.BEST_FIRST)
+                .toList();
+    }
+
+    Set<String> getSearchTerms(String searchString, boolean fuzzy, int prefixLength, int maxExpansions) {
+        Set<String> searchTerms = new HashSet<>();
+
+        for (String token : tokenize(searchString)) {
+            searchTerms.add(token);
+
+            if (fuzzy) {
+                searchTerms.addAll(expand(token, prefixLength, maxExpansions));
+            }
+        }
+
+        return searchTerms;
+    }
+
+    static String highlight(String value, Set<String> searchTerms, String preTag, String postTag) {
+        if (value == null) {
+            return null;
+        }
+
+        StringBuilder highlighted = new StringBuilder();
+        Matcher matcher = TOKEN_PATTERN.matcher(value);
+        int end = 0;
+        boolean matched = false;
+
+        while (matcher.find()) {
+            if (searchTerms.contains(matcher.group().toLowerCase(Locale.ROOT))) {
+                highlighted.append(value, end, matcher.start()).append(preTag).append(matcher.group()).append(postTag);
+                end = matcher.end();
+                matched = true;
+            }
+        }
+
+        return matched ? highlighted.append(value, end, value.length()).toString() : null;
+    }
+
+    List<String> suggestTitles(String prefix) {
+        List<String> prefixTokens = tokenize(prefix);
+
+        if (prefixTokens.isEmpty()) {
+            return List.of();
+        }
+
+        BitSet candidates = (BitSet) live.clone();
+        for (int i = 0; i < prefixTokens.size() - 1; i++) {
+            candidates.and(titlePostings.getOrDefault(prefixTokens.get(i), new BitSet()));
+        }
+
+        String lastToken = prefixTokens.get(prefixTokens.size() - 1);
+        BitSet lastTokenMatches = new BitSet();
+        for (Map.Entry<String, BitSet> entry : titlePostings.tailMap(lastToken, true).entrySet()) {
+            if (!entry.getKey().startsWith(lastToken)) {
+                break;
+            }
+            lastTokenMatches.or(entry.getValue());
+        }
+        candidates.and(lastTokenMatches);
+
+        List<TodoDocument> result = new ArrayList<>(candidates.cardinality());
+        for (int docId = candidates.nextSetBit(0); docId >= 0; docId = candidates.nextSetBit(docId + 1)) {
+            result.add(todos.get(docId));
+        }
+        result.sort(NEWEST_FIRST);
+
+        return result.stream().map(TodoDocument::getTitle).toList();
+    }
+
+    TodoStatsDto getStats(int categoriesMaxSize) {
+        long total = live.cardinality();
+        long completedCount = completed.cardinality();
+        Map<String, Long> categories = new LinkedHashMap<>();
+
+        categoryPostings.entrySet().stream()
+                .sorted(Map.Entry.<String, BitSet>comparingByValue(Comparator.comparingInt(BitSet::cardinality)).reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(categoriesMaxSize)
+                .forEach(entry -> categories.put(entry.getKey(), (long) entry.getValue().cardinality()));
+
+        return new TodoStatsDto(total, completedCount, total - completedCount, categories);
+    }
+
+    List<TodoDocument> all() {
+        return findAll(null, null, null, null);
+    }
+
+    private void score(Map<Integer, Double> scores, BitSet docIds, double weight) {
+        if (docIds == null) {
+            return;
+        }
+
+        for (int docId = docIds.nextSetBit(0); docId >= 0; docId = docIds.nextSetBit(docId + 1)) {
+            scores.merge(docId, weight, Double::sum);
+        }
+    }
+
+    private List<String> expand(String token, int prefixLength, int maxExpansions) {
+        int maxEdits = token.length() <= 2 ? 0 : token.length() <= 5 ? 1 : 2;
+
+        if (maxEdits == 0) {
+            return List.of();
+        }
+
+        String prefix = token.substring(0, Math.min(prefixLength, token.length()));
+        List<String> expansions = new ArrayList<>();
+        for (String term : terms.tailMap(prefix, true).keySet()) {
+            if (expansions.size() >= maxExpansions || !term.startsWith(prefix)) {
+                break;
+            }
+            if (!term.equals(token)
+                    && Math.abs(term.length() - token.length()) <= maxEdits
+                    && distance(term, token, maxEdits) <= maxEdits) {
+                expansions.add(term);
+            }
+        }
+
+        return expansions;
+    }
+
+    private int distance(String first, String second, int maxEdits) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+
+            if (rowMin > maxEdits) {
+                return rowMin;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[second.length()];
+    }
+
+    private void addTerm(Map<String, BitSet> postings, String token, int docId) {
+        postings.computeIfAbsent(token, ignored -> {
+            terms.merge(token, 1, Integer::sum);
+            return new BitSet();
+        }).set(docId);
+    }
+
+    private void removeTerm(Map<String, BitSet> postings, String token, int docId) {
+        if (clear(postings, token, docId)) {
+            terms.computeIfPresent(token, (ignored, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private boolean clear(Map<String, BitSet> postings, String token, int docId) {
+        BitSet docIds = postings.get(token);
+
+        if (docIds != null) {
+            docIds.clear(docId);
+            if (docIds.isEmpty()) {
+                postings.remove(token);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static List<String> tokenize(String value) {
+        if (value == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(TOKEN_SEPARATOR_PATTERN.split(value.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
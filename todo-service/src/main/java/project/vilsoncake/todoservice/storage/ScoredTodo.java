@@ -0,0 +1,13 @@
+package project.vilsoncake.todoservice.storage;
+
+import project.vilsoncake.todoservice.document.TodoDocument;
+
+import java.util.Comparator;
+
+record ScoredTodo(TodoDocument todo, double score) {
+
+    static final Comparator<ScoredTodo> BEST_FIRST = Comparator
+            .comparingDouble(ScoredTodo::score)
+            .reversed()
+            .thenComparing(ScoredTodo::todo, OwnerTodoIndex.NEWEST_FIRST);
+}
@@ -0,0 +1,29 @@
+package project.vilsoncake.todoservice.storage;
+
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoDocumentPageDto;
+import project.vilsoncake.todoservice.dto.TodoStatsDto;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TodoStorage {
+    long reserveTitle(String owner, String title, int count);
+    void save(TodoDocument todo);
+    Optional<TodoDocument> findById(String owner, UUID id);
+    Optional<TodoDocument> findByTitle(String owner, String title);
+    Optional<TodoDocument> toggleCompleted(String owner, UUID id);
+    Optional<TodoDocument> delete(String owner, UUID id);
+    List<TodoDocument> findAll(String owner, Boolean completed, String category, Date from, Date to, int offset, int size);
+    TodoDocumentPageDto findAll(String owner, Boolean completed, String category, Date from, Date to, List<Object> searchAfter, int size);
+    List<TodoDocument> search(String owner, String searchString, int offset, int size);
+    TodoDocumentPageDto search(String owner, String searchString, List<Object> searchAfter, int size);
+    Map<UUID, Map<String, List<String>>> highlight(String owner, String searchString, List<TodoDocument> todos);
+    List<String> suggestTitles(String owner, String prefix, int size);
+    TodoStatsDto getStats(String owner);
+    long changeOwner(String owner, String newOwner);
+    long removeOwner(String owner);
+}
@@ -0,0 +1,34 @@
+package project.vilsoncake.todoservice.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import project.vilsoncake.todoservice.dto.TodoCursorDto;
+import project.vilsoncake.todoservice.exception.IncorrectTodoCursorException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+
+@Component
+@RequiredArgsConstructor
+public class CursorUtils {
+
+    private final ObjectMapper objectMapper;
+
+    public String encode(TodoCursorDto todoCursorDto) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(todoCursorDto));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public TodoCursorDto decode(String cursor) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), TodoCursorDto.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IncorrectTodoCursorException(String.format("\"%s\" is incorrect cursor", cursor));
+        }
+    }
+}
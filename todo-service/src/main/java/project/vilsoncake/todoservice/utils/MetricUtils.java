@@ -0,0 +1,74 @@
+package project.vilsoncake.todoservice.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static project.vilsoncake.todoservice.constant.MetricConst.*;
+
+@Component
+@RequiredArgsConstructor
+public class MetricUtils {
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T recordElasticsearchOperation(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_ERROR;
+
+        try {
+            T result = call.get();
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } finally {
+            sample.stop(elasticsearchOperationTimer(operation, outcome));
+        }
+    }
+
+    public <T> Flux<T> recordElasticsearchOperation(String operation, Flux<T> call) {
+        return record(call, error -> elasticsearchOperationTimer(operation, error == null ? OUTCOME_SUCCESS : OUTCOME_ERROR));
+    }
+
+    public <T> Flux<T> recordServiceRequest(Class<?> serviceClass, String method, Flux<T> call) {
+        return record(call, error -> Timer.builder(TODO_SERVICE_REQUESTS)
+                .tag(TAG_CLASS, serviceClass.getName())
+                .tag(TAG_METHOD, method)
+                .tag(TAG_EXCEPTION, error == null ? TAG_VALUE_NONE : error.getClass().getSimpleName())
+                .publishPercentiles(TIMER_PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public void recordElasticsearchOperation(String operation, Runnable call) {
+        recordElasticsearchOperation(operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private <T> Flux<T> record(Flux<T> call, Function<Throwable, Timer> timer) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+
+            return call
+                    .doOnError(error::set)
+                    .doFinally(signal -> sample.stop(timer.apply(error.get())));
+        });
+    }
+
+    private Timer elasticsearchOperationTimer(String operation, String outcome) {
+        return Timer.builder(ELASTICSEARCH_OPERATIONS)
+                .tag(TAG_OPERATION, operation)
+                .tag(TAG_OUTCOME, outcome)
+                .publishPercentiles(TIMER_PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
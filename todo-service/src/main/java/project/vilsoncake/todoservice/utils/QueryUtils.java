@@ -0,0 +1,107 @@
+package project.vilsoncake.todoservice.utils;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightFieldParameters;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
+import org.springframework.stereotype.Component;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.property.TodoProperties;
+
+import java.util.List;
+
+import static project.vilsoncake.todoservice.constant.IndexConst.*;
+import static project.vilsoncake.todoservice.utils.RoutingUtils.getOwnerRouting;
+
+@Component
+@RequiredArgsConstructor
+public class QueryUtils {
+
+    private final TodoProperties todoProperties;
+
+    public NativeQueryBuilder searchQueryBuilder(String username, String searchString, boolean highlight) {
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> b
+                                .must(m -> m
+                                        .multiMatch(mm -> mm
+                                                .fields(List.of("title", "text"))
+                                                .query(searchString)
+                                                .fuzziness("AUTO")
+                                                .prefixLength(todoProperties.getSearchFuzzyPrefixLength())
+                                                .maxExpansions(todoProperties.getSearchFuzzyMaxExpansions())
+                                        )
+                                )
+                                .filter(f -> f.term(t -> t.field("owner.keyword").value(username)))
+                        )
+                );
+
+        if (!highlight) {
+            return queryBuilder.withSourceFilter(new FetchSourceFilter(TODO_SOURCE_FIELDS, null));
+        }
+
+        HighlightParameters highlightParameters = HighlightParameters.builder()
+                .withPreTags(HIGHLIGHT_PRE_TAG)
+                .withPostTags(HIGHLIGHT_POST_TAG)
+                .withFragmentSize(HIGHLIGHT_FRAGMENT_SIZE)
+                .withNumberOfFragments(HIGHLIGHT_NUMBER_OF_FRAGMENTS)
+                .build();
+        HighlightFieldParameters textHighlightParameters = HighlightFieldParameters.builder()
+                .withNoMatchSize(HIGHLIGHT_FRAGMENT_SIZE)
+                .build();
+        Highlight todoHighlight = new Highlight(highlightParameters, List.of(
+                new HighlightField("title"),
+                new HighlightField("text", textHighlightParameters)
+        ));
+
+        return queryBuilder
+                .withSourceFilter(new FetchSourceFilter(TODO_HIGHLIGHT_SOURCE_FIELDS, null))
+                .withHighlightQuery(new HighlightQuery(todoHighlight, TodoDocument.class));
+    }
+
+    public NativeQueryBuilder ownerQueryBuilder(String owner, Query... filters) {
+        return NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> b
+                                .filter(term("owner.keyword", owner))
+                                .filter(List.of(filters))
+                        )
+                )
+                .withRoute(getOwnerRouting(owner));
+    }
+
+    public Query term(String field, String value) {
+        return Query.of(q -> q.term(t -> t.field(field).value(value)));
+    }
+
+    public Query term(String field, boolean value) {
+        return Query.of(q -> q.term(t -> t.field(field).value(value)));
+    }
+
+    public NativeQuery suggestQuery(String username, String prefix, int size) {
+        return NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> b
+                                .must(m -> m
+                                        .multiMatch(mm -> mm
+                                                .fields(List.of(TODO_SUGGEST_FIELDS))
+                                                .query(prefix)
+                                                .type(TextQueryType.BoolPrefix)
+                                        )
+                                )
+                                .filter(f -> f.term(t -> t.field("owner.keyword").value(username)))
+                        )
+                )
+                .withSourceFilter(new FetchSourceFilter(TODO_SUGGEST_SOURCE_FIELDS, null))
+                .withMaxResults(Math.max(1, Math.min(size, todoProperties.getSuggestMaxSize())))
+                .withRoute(getOwnerRouting(username))
+                .build();
+    }
+}
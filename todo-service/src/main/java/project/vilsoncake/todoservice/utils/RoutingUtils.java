@@ -0,0 +1,10 @@
+package project.vilsoncake.todoservice.utils;
+
+import java.util.Locale;
+
+public class RoutingUtils {
+
+    public static String getOwnerRouting(String owner) {
+        return owner.toLowerCase(Locale.ROOT);
+    }
+}
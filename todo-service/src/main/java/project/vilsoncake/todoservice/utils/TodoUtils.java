@@ -3,8 +3,6 @@ package project.vilsoncake.todoservice.utils;
 import org.springframework.stereotype.Component;
 import project.vilsoncake.todoservice.document.TodoDocument;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -14,20 +12,19 @@ import static project.vilsoncake.todoservice.constant.PatternConst.REGEX_TODO_TI
 @Component
 public class TodoUtils {
 
-    public int getDuplicateCount(List<TodoDocument> todoDocuments) {
-        Pattern pattern = Pattern.compile(REGEX_TODO_TITLE_DUPLICATE_PATTERN);
+    private static final Pattern TODO_TITLE_DUPLICATE_PATTERN = Pattern.compile(REGEX_TODO_TITLE_DUPLICATE_PATTERN);
 
-        List<Integer> numbers = new ArrayList<>();
+    public int getDuplicateCount(List<TodoDocument> todoDocuments) {
+        int max = 0;
 
         for (var todoDocument : todoDocuments) {
-            Matcher matcher = pattern.matcher(todoDocument.getTitle());
+            Matcher matcher = TODO_TITLE_DUPLICATE_PATTERN.matcher(todoDocument.getTitle());
 
             while (matcher.find()) {
-                int number = Integer.parseInt(matcher.group(1));
-                numbers.add(number);
+                max = Math.max(max, Integer.parseInt(matcher.group(1)));
             }
         }
 
-        return Collections.max(numbers);
+        return max;
     }
 }
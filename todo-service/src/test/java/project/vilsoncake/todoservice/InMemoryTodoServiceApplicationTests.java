@@ -0,0 +1,69 @@
+package project.vilsoncake.todoservice;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import dasniko.testcontainers.keycloak.KeycloakContainer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import project.vilsoncake.todoservice.service.TodoService;
+import project.vilsoncake.todoservice.service.TodoTaskService;
+import project.vilsoncake.todoservice.service.impl.InMemoryTodoServiceImpl;
+import project.vilsoncake.todoservice.service.impl.InMemoryTodoTaskServiceImpl;
+import project.vilsoncake.todoservice.storage.InMemoryTodoStorage;
+import project.vilsoncake.todoservice.storage.TodoStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@SpringBootTest
+@ActiveProfiles("in-memory")
+class InMemoryTodoServiceApplicationTests {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private TodoStorage todoStorage;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoTaskService todoTaskService;
+
+    static final KeycloakContainer keycloakContainer = new KeycloakContainer("quay.io/keycloak/keycloak:22.0.5")
+            .withStartupAttempts(10)
+            .withRealmImportFile("keycloak/realm-export.json");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.security.oauth2.resourceserver.jwt.issuer-uri", () -> keycloakContainer.getAuthServerUrl() + "/realms/todo-realm");
+        registry.add("spring.security.oauth2.client.provider.keycloak.issuer-uri", () -> keycloakContainer.getAuthServerUrl() + "/realms/todo-realm");
+        registry.add("keycloak.server-url", keycloakContainer::getAuthServerUrl);
+    }
+
+    @BeforeAll
+    static void startContainers() {
+        keycloakContainer.start();
+    }
+
+    @AfterAll
+    static void stopContainers() {
+        keycloakContainer.stop();
+    }
+
+    @Test
+    void contextLoads() {
+        assertInstanceOf(InMemoryTodoStorage.class, todoStorage);
+        assertInstanceOf(InMemoryTodoServiceImpl.class, todoService);
+        assertInstanceOf(InMemoryTodoTaskServiceImpl.class, todoTaskService);
+        assertEquals(0, applicationContext.getBeanNamesForType(ElasticsearchClient.class).length);
+    }
+
+}
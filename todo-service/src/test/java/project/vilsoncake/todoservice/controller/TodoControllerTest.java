@@ -1,13 +1,18 @@
 package project.vilsoncake.todoservice.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dasniko.testcontainers.keycloak.KeycloakContainer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -18,18 +23,26 @@ import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.elasticsearch.ElasticsearchContainer;
 import org.testcontainers.utility.DockerImageName;
 import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.document.TodoTaskDocument;
+import project.vilsoncake.todoservice.dto.TodoBatchItemDto;
 import project.vilsoncake.todoservice.dto.TodoDto;
+import project.vilsoncake.todoservice.dto.TodoStatsDto;
+import project.vilsoncake.todoservice.dto.TodoTaskDto;
 import project.vilsoncake.todoservice.dto.TodosDto;
 import project.vilsoncake.todoservice.keycloak.KeycloakUtils;
 import project.vilsoncake.todoservice.repository.TodoRepository;
+import project.vilsoncake.todoservice.repository.TodoTaskRepository;
+import project.vilsoncake.todoservice.service.TodoCacheService;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static project.vilsoncake.todoservice.constant.MetricConst.*;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -48,6 +61,18 @@ class TodoControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TodoCacheService todoCacheService;
+
+    @Autowired
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Autowired
+    private TodoTaskRepository todoTaskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     static final KeycloakContainer keycloakContainer = new KeycloakContainer("quay.io/keycloak/keycloak:22.0.5")
             .withStartupAttempts(10)
             .withRealmImportFile("keycloak/realm-export.json");
@@ -126,6 +151,7 @@ class TodoControllerTest {
     @AfterEach
     void removeInitTodos() {
         todoRepository.deleteAll();
+        todoCacheService.evictOwner("testuser");
     }
 
     @Test
@@ -179,6 +205,148 @@ class TodoControllerTest {
         assertEquals(HttpStatus.SC_BAD_REQUEST, response.getResponse().getStatus());
     }
 
+    @Test
+    @DisplayName("Create new todo test with titles already taken")
+    void addTodo_duplicateTitles() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+
+        TodoDocument seededTodo1 = new TodoDocument();
+        seededTodo1.setId(UUID.randomUUID());
+        seededTodo1.setTitle("Seeded todo");
+        seededTodo1.setCategory("Home");
+        seededTodo1.setText("Seeded todo text");
+        seededTodo1.setCreatedAt(new Date());
+        seededTodo1.setOwner(username);
+
+        TodoDocument seededTodo2 = new TodoDocument();
+        seededTodo2.setId(UUID.randomUUID());
+        seededTodo2.setTitle("Seeded todo (1)");
+        seededTodo2.setCategory("Home");
+        seededTodo2.setText("Seeded todo text");
+        seededTodo2.setCreatedAt(new Date());
+        seededTodo2.setOwner(username);
+
+        todoRepository.saveAll(List.of(seededTodo1, seededTodo2));
+        elasticsearchOperations.indexOps(TodoDocument.class).refresh();
+
+        String jsonTodoRequest = """
+                {
+                  "title": "Seeded todo",
+                  "category": "Home",
+                  "text": "Test todo."
+                }
+                """;
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                    post("/todos")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(jsonTodoRequest)
+            ).andReturn();
+        }
+
+        // When
+        assertTrue(todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase("Seeded todo (2)", username).isPresent());
+        assertTrue(todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase("Seeded todo (3)", username).isPresent());
+    }
+
+    @Test
+    @DisplayName("Create new todo test with title longer than document id limit")
+    void addTodo_longTitle() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+        String title = "Long todo " + "a".repeat(600);
+        String jsonTodoRequest = String.format("{\"title\": \"%s\", \"category\": \"Home\", \"text\": \"Long todo text\"}", title);
+
+        List<Integer> statuses = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            var response = mockMvc.perform(
+                    post("/todos")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(jsonTodoRequest)
+            ).andReturn();
+            statuses.add(response.getResponse().getStatus());
+        }
+        elasticsearchOperations.indexOps(TodoDocument.class).refresh();
+
+        // When
+        assertEquals(List.of(HttpStatus.SC_CREATED, HttpStatus.SC_CREATED), statuses);
+        assertEquals(2, todoRepository.findAllByOwnerIgnoreCase(username).stream()
+                .filter(todo -> todo.getTitle().startsWith("Long todo"))
+                .count());
+    }
+
+    @Test
+    @DisplayName("Create todos batch test with valid data")
+    void addTodos_validData() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+        String jsonTodoRequests = """
+                [
+                  {
+                    "title": "Batch todo",
+                    "category": "Home",
+                    "text": "First batch todo."
+                  },
+                  {
+                    "title": "Batch todo",
+                    "category": "Work",
+                    "text": "Second batch todo."
+                  }
+                ]
+                """;
+
+        var response = mockMvc.perform(
+                post("/todos/batch")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonTodoRequests)
+        ).andReturn();
+
+        // When
+        assertEquals(HttpStatus.SC_CREATED, response.getResponse().getStatus());
+        assertEquals(jakarta.ws.rs.core.MediaType.APPLICATION_JSON, response.getResponse().getContentType());
+        assertTrue(response.getResponse().getContentAsString().contains("\"results\":"));
+        assertTrue(todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase("Batch todo", username).isPresent());
+        assertTrue(todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase("Batch todo (1)", username).isPresent());
+    }
+
+    @Test
+    @DisplayName("Create todos batch test with invalid item")
+    void addTodos_invalidItem() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+        String jsonTodoRequests = """
+                [
+                  {
+                    "title": "Valid batch todo",
+                    "category": "Home",
+                    "text": "Valid batch todo."
+                  },
+                  {
+                    "title": "",
+                    "category": "Home",
+                    "text": ""
+                  }
+                ]
+                """;
+
+        var response = mockMvc.perform(
+                post("/todos/batch")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonTodoRequests)
+        ).andReturn();
+
+        // When
+        assertEquals(HttpStatus.SC_MULTI_STATUS, response.getResponse().getStatus());
+        assertEquals(jakarta.ws.rs.core.MediaType.APPLICATION_JSON, response.getResponse().getContentType());
+        assertTrue(todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase("Valid batch todo", username).isPresent());
+    }
+
     @Test
     @DisplayName("Change todo completed field test with valid todo title")
     void changeCompleted_validData() throws Exception {
@@ -199,6 +367,27 @@ class TodoControllerTest {
         assertTrue(todoDto.isCompleted());
     }
 
+    @Test
+    @DisplayName("Change todo completed field test with repeated toggles")
+    void changeCompleted_repeatedToggles() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                    patch("/todos")
+                            .param("title", "Init todo")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+            ).andReturn();
+        }
+
+        TodoDocument todo = todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase("Init todo", "testuser").orElseThrow();
+
+        // When
+        assertFalse(todo.isCompleted());
+        assertEquals("Init todo text", todo.getText());
+    }
+
     @Test
     @DisplayName("Change todo completed field test with invalid todo title")
     void changeCompleted_invalidData() throws Exception {
@@ -268,6 +457,50 @@ class TodoControllerTest {
         assertTrue(response.getResponse().getContentAsString().contains("\"message\":"));
     }
 
+    @Test
+    @DisplayName("Change todo completed field test with valid todo id")
+    void changeCompletedById_validData() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        UUID id = todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase("Init todo", "testuser").orElseThrow().getId();
+
+        var response = mockMvc.perform(
+                patch("/todos/id/" + id)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+        ).andReturn();
+
+        var getResponse = mockMvc.perform(
+                get("/todos/id/" + id)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+        ).andReturn();
+
+        TodoDto todoDto = objectMapper.readValue(response.getResponse().getContentAsString(), TodoDto.class);
+        TodoDto fetchedTodoDto = objectMapper.readValue(getResponse.getResponse().getContentAsString(), TodoDto.class);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertEquals(HttpStatus.SC_OK, getResponse.getResponse().getStatus());
+        assertEquals(id, todoDto.getId());
+        assertTrue(todoDto.isCompleted());
+        assertTrue(fetchedTodoDto.isCompleted());
+    }
+
+    @Test
+    @DisplayName("Remove todo test with invalid todo id")
+    void removeTodoById_invalidData() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+
+        var response = mockMvc.perform(
+                delete("/todos/id/" + UUID.randomUUID())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+        ).andReturn();
+
+        // When
+        assertEquals(HttpStatus.SC_NOT_FOUND, response.getResponse().getStatus());
+        assertEquals(jakarta.ws.rs.core.MediaType.APPLICATION_JSON, response.getResponse().getContentType());
+        assertTrue(response.getResponse().getContentAsString().contains("\"message\":"));
+    }
+
     @Test
     @DisplayName("Get all user todos test with default filter")
     void getAllUserTodos_defaultFilter() throws Exception {
@@ -287,6 +520,59 @@ class TodoControllerTest {
         assertEquals(todoRepository.findAllByOwnerIgnoreCase(username).size(), todosDto.getTodos().size());
     }
 
+    @Test
+    @DisplayName("Get all user todos test with cursor pagination")
+    void getAllUserTodos_withCursor() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+
+        var firstResponse = mockMvc.perform(
+                get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("cursor", "")
+                        .param("size", "3")
+        ).andReturn();
+
+        TodosDto firstPage = objectMapper.readValue(firstResponse.getResponse().getContentAsString(), TodosDto.class);
+
+        var secondResponse = mockMvc.perform(
+                get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("cursor", firstPage.getCursor())
+                        .param("size", "3")
+        ).andReturn();
+
+        TodosDto secondPage = objectMapper.readValue(secondResponse.getResponse().getContentAsString(), TodosDto.class);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, firstResponse.getResponse().getStatus());
+        assertEquals(HttpStatus.SC_OK, secondResponse.getResponse().getStatus());
+        assertEquals(3, firstPage.getTodos().size());
+        assertNotNull(firstPage.getCursor());
+        assertNull(secondPage.getCursor());
+        assertEquals(
+                todoRepository.findAllByOwnerIgnoreCase(username).size(),
+                firstPage.getTodos().size() + secondPage.getTodos().size()
+        );
+    }
+
+    @Test
+    @DisplayName("Get all user todos test with incorrect cursor")
+    void getAllUserTodos_withIncorrectCursor() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+
+        var response = mockMvc.perform(
+                get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("cursor", "incorrect-cursor")
+        ).andReturn();
+
+        // When
+        assertEquals(HttpStatus.SC_BAD_REQUEST, response.getResponse().getStatus());
+        assertEquals(jakarta.ws.rs.core.MediaType.APPLICATION_JSON, response.getResponse().getContentType());
+        assertTrue(response.getResponse().getContentAsString().contains("\"message\":"));
+    }
+
     @Test
     @DisplayName("Get all user todos test with only-completed filter")
     void getAllUserTodos_withOnlyCompletedFilter() throws Exception {
@@ -377,4 +663,387 @@ class TodoControllerTest {
         assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
         assertEquals(jakarta.ws.rs.core.MediaType.APPLICATION_JSON, response.getResponse().getContentType());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Search todos test returns only user todos")
+    void searchTodos_onlyUserTodos() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+        String query = "text";
+
+        TodoDocument anotherUserTodo = new TodoDocument();
+        anotherUserTodo.setId(UUID.randomUUID());
+        anotherUserTodo.setTitle("Another user todo");
+        anotherUserTodo.setCategory("Home");
+        anotherUserTodo.setText("Another user todo text");
+        anotherUserTodo.setCreatedAt(new Date());
+        anotherUserTodo.setCompleted(false);
+        anotherUserTodo.setOwner("anotheruser");
+        todoRepository.save(anotherUserTodo);
+
+        var response = mockMvc.perform(
+                get("/todos/search")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("s", query)
+                        .param("size", "10")
+        ).andReturn();
+
+        TodosDto todosDto = objectMapper.readValue(response.getResponse().getContentAsString(), TodosDto.class);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertEquals(todoRepository.findAllByOwnerIgnoreCase(username).size(), todosDto.getTodos().size());
+    }
+
+    @Test
+    @DisplayName("Search todos with highlight test")
+    void searchTodos_withHighlight() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String query = "text";
+
+        var response = mockMvc.perform(
+                get("/todos/search")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("s", query)
+                        .param("highlight", "true")
+        ).andReturn();
+
+        TodosDto todosDto = objectMapper.readValue(response.getResponse().getContentAsString(), TodosDto.class);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertFalse(todosDto.getTodos().isEmpty());
+        assertTrue(todosDto.getTodos().stream().allMatch(todoDto -> todoDto.getHighlights() != null && todoDto.getHighlights().containsKey("text")));
+        assertTrue(todosDto.getTodos().stream().allMatch(todoDto -> todoDto.getText() == null));
+    }
+
+    @Test
+    @DisplayName("Suggest todo titles by prefix test")
+    void suggestTodoTitles() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+        String title = todoRepository.findAllByOwnerIgnoreCase(username).get(0).getTitle();
+        String prefix = title.substring(0, Math.min(3, title.length()));
+
+        var response = mockMvc.perform(
+                get("/todos/suggest")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("prefix", prefix)
+                        .param("size", "20")
+        ).andReturn();
+
+        Map<String, List<String>> suggestions = objectMapper.readValue(
+                response.getResponse().getContentAsString(),
+                new TypeReference<>() {}
+        );
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertTrue(suggestions.get("suggestions").contains(title));
+    }
+
+    @Test
+    @DisplayName("Get user tasks stored by another instance test")
+    void getUserTasks_storedByAnotherInstance() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+
+        TodoTaskDocument task = new TodoTaskDocument();
+        task.setId("change-owner:olduser:testuser");
+        task.setType("change-owner");
+        task.setUsername("OldUser");
+        task.setNewUsername("TestUser");
+        task.setState("completed");
+        task.setCreatedAt(new Date());
+        task.setUpdatedAt(task.getCreatedAt());
+        todoTaskRepository.save(task);
+
+        var response = mockMvc.perform(
+                get("/todos/tasks")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+        ).andReturn();
+
+        Map<String, List<TodoTaskDto>> tasks = objectMapper.readValue(
+                response.getResponse().getContentAsString(),
+                new TypeReference<>() {}
+        );
+        todoTaskRepository.delete(task);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertTrue(tasks.get("tasks").stream().anyMatch(todoTask -> todoTask.getId().equals(task.getId())));
+    }
+
+    @Test
+    @DisplayName("Elasticsearch client pool gauges and request timer registered test")
+    void elasticsearchClient_metricsRegistered() {
+        todoRepository.count();
+
+        long requests = meterRegistry.find(ELASTICSEARCH_REQUESTS).timers().stream().mapToLong(Timer::count).sum();
+
+        // When
+        assertTrue(requests > 0);
+        assertNotNull(meterRegistry.find(ELASTICSEARCH_POOL_LEASED).gauge());
+        assertNotNull(meterRegistry.find(ELASTICSEARCH_POOL_AVAILABLE).gauge());
+        assertNotNull(meterRegistry.find(ELASTICSEARCH_POOL_PENDING).gauge());
+        assertTrue(meterRegistry.get(ELASTICSEARCH_POOL_MAX).gauge().value() > 0);
+    }
+
+    @Test
+    @DisplayName("Get all user todos test through reactive endpoint")
+    void getAllUserTodos_reactive() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+
+        var asyncResponse = mockMvc.perform(
+                get("/reactive/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("size", "10")
+        ).andReturn();
+        var response = mockMvc.perform(asyncDispatch(asyncResponse)).andReturn();
+
+        TodosDto todosDto = objectMapper.readValue(response.getResponse().getContentAsString(), TodosDto.class);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertEquals(todoRepository.findAllByOwnerIgnoreCase(username).size(), todosDto.getTodos().size());
+    }
+
+    @Test
+    @DisplayName("Export user todos as NDJSON test")
+    void exportTodos() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+
+        var asyncResponse = mockMvc.perform(
+                get("/todos/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+        ).andReturn();
+        var response = mockMvc.perform(asyncDispatch(asyncResponse)).andReturn();
+
+        List<String> lines = response.getResponse().getContentAsString().lines().toList();
+        TodoDto todoDto = objectMapper.readValue(lines.get(0), TodoDto.class);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getResponse().getContentType());
+        assertEquals(todoRepository.findAllByOwnerIgnoreCase(username).size(), lines.size());
+        assertNotNull(todoDto.getId());
+    }
+
+    @Test
+    @DisplayName("Import user todos from NDJSON test")
+    void importTodos() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+        String ndjsonTodos = """
+                {"title": "Imported todo", "category": "Home", "text": "Imported todo text"}
+                {"title": "Imported todo", "category": "Home", "text": ""}
+                not a todo
+                {"title": "Imported todo", "category": "Work", "text": "Second imported todo text"}
+                """;
+
+        var asyncResponse = mockMvc.perform(
+                post("/todos/import")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjsonTodos)
+        ).andReturn();
+        var response = mockMvc.perform(asyncDispatch(asyncResponse)).andReturn();
+        elasticsearchOperations.indexOps(TodoDocument.class).refresh();
+
+        List<TodoBatchItemDto> errors = new ArrayList<>();
+        for (String line : response.getResponse().getContentAsString().lines().toList()) {
+            errors.add(objectMapper.readValue(line, TodoBatchItemDto.class));
+        }
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertEquals(List.of(1, 2), errors.stream().map(TodoBatchItemDto::getIndex).toList());
+        assertTrue(errors.stream().allMatch(error -> error.getStatus() == HttpStatus.SC_BAD_REQUEST));
+        assertTrue(todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase("Imported todo", username).isPresent());
+        assertTrue(todoRepository.findByTitleIgnoreCaseAndOwnerIgnoreCase("Imported todo (1)", username).isPresent());
+    }
+
+    @Test
+    @DisplayName("Imported todos visible in cached todo list without refresh test")
+    void importTodos_cachedListRefreshed() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+
+        mockMvc.perform(
+                get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("size", "10")
+        ).andReturn();
+        var asyncResponse = mockMvc.perform(
+                post("/todos/import")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\": \"Refreshed import\", \"category\": \"Home\", \"text\": \"Refreshed import text\"}\n")
+        ).andReturn();
+        mockMvc.perform(asyncDispatch(asyncResponse)).andReturn();
+
+        var response = mockMvc.perform(
+                get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("size", "10")
+        ).andReturn();
+
+        TodosDto todosDto = objectMapper.readValue(response.getResponse().getContentAsString(), TodosDto.class);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertTrue(todosDto.getTodos().stream().anyMatch(todo -> todo.getTitle().equals("Refreshed import")));
+        assertEquals(todoRepository.findAllByOwnerIgnoreCase(username).size(), todosDto.getTodos().size());
+    }
+
+    @Test
+    @DisplayName("Todo service and elasticsearch timers exposed to prometheus test")
+    void prometheusMetrics() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+
+        mockMvc.perform(
+                get("/todos/stats")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+        ).andReturn();
+
+        var response = mockMvc.perform(get("/actuator/prometheus")).andReturn();
+        String metrics = response.getResponse().getContentAsString();
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertTrue(metrics.contains("todo_service_requests_seconds_count{class=\"project.vilsoncake.todoservice.service.impl.TodoServiceImpl\""));
+        assertTrue(metrics.contains("todo_elasticsearch_operations_seconds_count{operation=\"stats\",outcome=\"success\""));
+    }
+
+    @Test
+    @DisplayName("Actuator endpoints other than health not exposed to unauthenticated remote clients test")
+    void actuatorEndpoints_remoteUnauthenticated() throws Exception {
+        var healthResponse = mockMvc.perform(
+                get("/actuator/health")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.1");
+                            return request;
+                        })
+        ).andReturn();
+        var prometheusResponse = mockMvc.perform(
+                get("/actuator/prometheus")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.1");
+                            return request;
+                        })
+        ).andReturn();
+        var metricsResponse = mockMvc.perform(get("/actuator/metrics")).andReturn();
+
+        // When
+        assertEquals(HttpStatus.SC_OK, healthResponse.getResponse().getStatus());
+        assertEquals(HttpStatus.SC_UNAUTHORIZED, prometheusResponse.getResponse().getStatus());
+        assertEquals(HttpStatus.SC_UNAUTHORIZED, metricsResponse.getResponse().getStatus());
+    }
+
+    @Test
+    @DisplayName("Get all user todos test after adding todo evicts cached page")
+    void getAllUserTodos_cacheEvictedOnAdd() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+
+        var firstResponse = mockMvc.perform(
+                get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("size", "10")
+        ).andReturn();
+
+        mockMvc.perform(
+                post("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Cached todo\", \"category\": \"Home\", \"text\": \"Cached todo text\"}")
+        ).andReturn();
+
+        var secondResponse = mockMvc.perform(
+                get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("size", "10")
+        ).andReturn();
+
+        TodosDto firstPage = objectMapper.readValue(firstResponse.getResponse().getContentAsString(), TodosDto.class);
+        TodosDto secondPage = objectMapper.readValue(secondResponse.getResponse().getContentAsString(), TodosDto.class);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, secondResponse.getResponse().getStatus());
+        assertEquals(firstPage.getTodos().size() + 1, secondPage.getTodos().size());
+        assertEquals(todoRepository.findAllByOwnerIgnoreCase(username).size(), secondPage.getTodos().size());
+    }
+
+    @Test
+    @DisplayName("Cached page not stored when owner is evicted during load test")
+    void getTodos_evictedDuringLoadNotCached() {
+        String username = "testuser";
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        TodoDto staleTodo = new TodoDto();
+        staleTodo.setTitle("Stale todo");
+
+        List<TodoDto> firstTodos = todoCacheService.getTodos(username, "all", "", pageRequest, () -> {
+            todoCacheService.evictOwner(username);
+            return List.of(staleTodo);
+        });
+        List<TodoDto> secondTodos = todoCacheService.getTodos(username, "all", "", pageRequest, List::of);
+        List<TodoDto> thirdTodos = todoCacheService.getTodos(username, "all", "", pageRequest, () -> List.of(staleTodo));
+
+        // When
+        assertEquals(List.of(staleTodo), firstTodos);
+        assertTrue(secondTodos.isEmpty());
+        assertTrue(thirdTodos.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Get user todo stats test")
+    void getUserTodoStats() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+
+        var response = mockMvc.perform(
+                get("/todos/stats")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+        ).andReturn();
+
+        TodoStatsDto todoStatsDto = objectMapper.readValue(response.getResponse().getContentAsString(), TodoStatsDto.class);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, response.getResponse().getStatus());
+        assertEquals(4, todoStatsDto.getTotal());
+        assertEquals(3, todoStatsDto.getCompleted());
+        assertEquals(1, todoStatsDto.getOpen());
+        assertEquals(3, todoStatsDto.getCategories().get("home"));
+        assertEquals(1, todoStatsDto.getCategories().get("work"));
+    }
+
+    @Test
+    @DisplayName("Get all user todos test with created time range")
+    void getAllUserTodos_withTimeRange() throws Exception {
+        String accessToken = keycloakUtils.getTestUserAuthTokens().getAccessToken();
+        String username = "testuser";
+
+        var pastResponse = mockMvc.perform(
+                get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("from", "2000-01-01T00:00:00Z")
+                        .param("size", "10")
+        ).andReturn();
+
+        var futureResponse = mockMvc.perform(
+                get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("from", "2100-01-01T00:00:00Z")
+                        .param("size", "10")
+        ).andReturn();
+
+        TodosDto pastTodos = objectMapper.readValue(pastResponse.getResponse().getContentAsString(), TodosDto.class);
+        TodosDto futureTodos = objectMapper.readValue(futureResponse.getResponse().getContentAsString(), TodosDto.class);
+
+        // When
+        assertEquals(HttpStatus.SC_OK, pastResponse.getResponse().getStatus());
+        assertEquals(HttpStatus.SC_OK, futureResponse.getResponse().getStatus());
+        assertEquals(todoRepository.findAllByOwnerIgnoreCase(username).size(), pastTodos.getTodos().size());
+        assertTrue(futureTodos.getTodos().isEmpty());
+    }
+}
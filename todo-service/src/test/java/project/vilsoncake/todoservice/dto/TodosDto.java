@@ -4,6 +4,7 @@ import java.util.List;
 
 public class TodosDto {
     private List<TodoDto> todos;
+    private String cursor;
 
     public List<TodoDto> getTodos() {
         return todos;
@@ -12,4 +13,12 @@ public class TodosDto {
     public void setTodos(List<TodoDto> todos) {
         this.todos = todos;
     }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
 }
@@ -0,0 +1,53 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import project.vilsoncake.todoservice.dto.TodoTaskDto;
+import project.vilsoncake.todoservice.property.TodoProperties;
+import project.vilsoncake.todoservice.storage.InMemoryTodoStorage;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTodoTaskServiceImplTest {
+
+    private final TodoProperties todoProperties = new TodoProperties();
+    private final InMemoryTodoTaskServiceImpl todoTaskService = new InMemoryTodoTaskServiceImpl(new InMemoryTodoStorage(todoProperties), todoProperties);
+
+    @Test
+    @DisplayName("Get user tasks completed by in-memory storage test")
+    void getUserTasks_completedTasks() {
+        todoProperties.setTaskRetentionMs(3600000);
+        todoTaskService.submitChangeOwner("OldUser", "NewUser");
+        todoTaskService.submitRemoveOwner("otheruser");
+
+        List<TodoTaskDto> tasks = todoTaskService.getUserTasks(jwt("newuser"));
+
+        // When
+        assertEquals(List.of("change-owner:olduser:newuser"), tasks.stream().map(TodoTaskDto::getId).toList());
+        assertEquals("completed", tasks.get(0).getState());
+        assertEquals(1, todoTaskService.getUserTasks(jwt("otheruser")).size());
+    }
+
+    @Test
+    @DisplayName("Expired in-memory tasks removed on poll test")
+    void pollTasks_removesExpiredTasks() throws Exception {
+        todoProperties.setTaskRetentionMs(10);
+        todoTaskService.submitRemoveOwner("testuser");
+
+        Thread.sleep(50);
+        todoTaskService.pollTasks();
+
+        // When
+        assertTrue(todoTaskService.getUserTasks(jwt("testuser")).isEmpty());
+    }
+
+    private Jwt jwt(String username) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("preferred_username", username)
+                .build();
+    }
+}
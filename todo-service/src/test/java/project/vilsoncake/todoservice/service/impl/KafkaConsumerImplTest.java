@@ -14,12 +14,17 @@ import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.elasticsearch.ElasticsearchContainer;
 import org.testcontainers.utility.DockerImageName;
 import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.document.TodoTaskDocument;
 import project.vilsoncake.todoservice.repository.TodoRepository;
+import project.vilsoncake.todoservice.repository.TodoTaskRepository;
+import project.vilsoncake.todoservice.service.TodoTitleSequenceService;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,6 +39,12 @@ class KafkaConsumerImplTest {
     @Autowired
     private TodoRepository todoRepository;
 
+    @Autowired
+    private TodoTaskRepository todoTaskRepository;
+
+    @Autowired
+    private TodoTitleSequenceService todoTitleSequenceService;
+
     @Value("${kafka.topic-name}")
     private String topicName;
 
@@ -128,6 +139,57 @@ class KafkaConsumerImplTest {
         assertFalse(todoRepository.findAllByOwnerIgnoreCase(newUsername).isEmpty());
     }
 
+    @Test
+    @DisplayName("Consume kafka message for change user username test reseeds new owner title sequences")
+    void handleUserEvent_changeUsernameMessageReseedsSequences() throws Exception {
+        String username = "testuser";
+        String newUsername = "sequenceuser";
+        String serializedMessage = String.format("{\"type\":\"change-username\",\"username\":\"%s\",\"payload\":{\"newUsername\":\"%s\"}}", username, newUsername);
+
+        List<TodoDocument> duplicates = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            TodoDocument duplicate = new TodoDocument();
+            duplicate.setId(UUID.randomUUID());
+            duplicate.setTitle(String.format("Init todo (%s)", i));
+            duplicate.setCategory("Home");
+            duplicate.setText("Init todo text");
+            duplicate.setCreatedAt(new Date());
+            duplicate.setOwner(username);
+            duplicates.add(duplicate);
+        }
+        todoRepository.saveAll(duplicates);
+        todoTitleSequenceService.reserve(newUsername, "Init todo", 1);
+
+        kafkaTemplate.send(topicName, serializedMessage);
+
+        Thread.sleep(1500);
+
+        long duplicateNumber = todoTitleSequenceService.reserve(newUsername, "Init todo", 1);
+
+        // When
+        assertEquals(3, duplicateNumber);
+    }
+
+    @Test
+    @DisplayName("Consume kafka message for change user username letter case test")
+    void handleUserEvent_changeUsernameCaseMessage() throws Exception {
+        String username = "testuser";
+        String newUsername = "TestUser";
+        String serializedMessage = String.format("{\"type\":\"change-username\",\"username\":\"%s\",\"payload\":{\"newUsername\":\"%s\"}}", username, newUsername);
+
+        List<TodoDocument> todosBeforeSend = todoRepository.findAllByOwnerIgnoreCase(username);
+
+        kafkaTemplate.send(topicName, serializedMessage);
+
+        Thread.sleep(1500);
+
+        List<TodoDocument> todosAfterSend = todoRepository.findAllByOwnerIgnoreCase(newUsername);
+
+        // When
+        assertEquals(todosBeforeSend.size(), todosAfterSend.size());
+        assertTrue(todosAfterSend.stream().allMatch(todo -> todo.getOwner().equals(newUsername)));
+    }
+
     @Test
     @DisplayName("Consume kafka message for remove user test")
     void handleUserEvent_removeUserMessage() throws Exception {
@@ -146,4 +208,21 @@ class KafkaConsumerImplTest {
         assertFalse(todosBeforeSend.isEmpty());
         assertTrue(todosAfterSend.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Consume kafka message for remove user test stores task state")
+    void handleUserEvent_removeUserMessageStoresTask() throws Exception {
+        String username = "testuser";
+        String serializedMessage = String.format("{\"type\":\"user-remove\",\"username\":\"%s\",\"payload\":{}}", username);
+
+        kafkaTemplate.send(topicName, serializedMessage);
+
+        Thread.sleep(1500);
+
+        TodoTaskDocument task = todoTaskRepository.findById("remove-owner:testuser:").orElseThrow();
+
+        // When
+        assertEquals("completed", task.getState());
+        assertEquals(4, task.getProcessed());
+    }
+}
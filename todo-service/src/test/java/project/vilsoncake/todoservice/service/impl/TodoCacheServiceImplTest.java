@@ -0,0 +1,131 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import project.vilsoncake.todoservice.dto.TodoCacheInvalidationDto;
+import project.vilsoncake.todoservice.dto.TodoDto;
+import project.vilsoncake.todoservice.property.TodoProperties;
+import project.vilsoncake.todoservice.service.KafkaProducer;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static project.vilsoncake.todoservice.constant.CacheConst.TODO_CACHE_NAME;
+
+class TodoCacheServiceImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KafkaProducer kafkaProducer = mock(KafkaProducer.class);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("Todo cache bounded by cached pages test")
+    void getTodos_boundedByPages() throws Exception {
+        TodoCacheServiceImpl todoCacheService = createService(4);
+
+        for (int page = 0; page < 5; page++) {
+            getTodos(todoCacheService, "testuser", page);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("cache.evictions").tag("cache", TODO_CACHE_NAME).functionCounter().count() == 0
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        getTodos(todoCacheService, "testuser", 0);
+
+        // When
+        assertEquals(6, loads.get());
+    }
+
+    @Test
+    @DisplayName("Todo cache pages of one owner reused within bound test")
+    void getTodos_reusedWithinBound() {
+        TodoCacheServiceImpl todoCacheService = createService(4);
+
+        for (int page = 0; page < 3; page++) {
+            getTodos(todoCacheService, "testuser", page);
+        }
+        for (int page = 0; page < 3; page++) {
+            getTodos(todoCacheService, "TestUser", page);
+        }
+
+        // When
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Reactive todo cache pages reused after first subscription test")
+    void getReactiveTodos_reused() {
+        TodoCacheServiceImpl todoCacheService = createService(4);
+
+        Flux<TodoDto> todos = todoCacheService.getReactiveTodos("testuser", "all", "", PageRequest.of(0, 10), () -> Flux.defer(() -> {
+            loads.incrementAndGet();
+            return Flux.just(new TodoDto(), new TodoDto());
+        }));
+        List<TodoDto> firstTodos = todos.collectList().block();
+        List<TodoDto> secondTodos = todos.collectList().block();
+
+        // When
+        assertEquals(1, loads.get());
+        assertEquals(firstTodos, secondTodos);
+        assertEquals(2, secondTodos.size());
+    }
+
+    @Test
+    @DisplayName("Todo cache invalidation from another instance evicts owner test")
+    void applyInvalidation_otherInstance() {
+        TodoCacheServiceImpl todoCacheService = createService(4);
+
+        getTodos(todoCacheService, "testuser", 0);
+        todoCacheService.applyInvalidation(new TodoCacheInvalidationDto(UUID.randomUUID().toString(), List.of("testuser")));
+        getTodos(todoCacheService, "TestUser", 0);
+
+        // When
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Todo cache invalidation from own instance ignored test")
+    void applyInvalidation_ownInstance() throws Exception {
+        TodoCacheServiceImpl todoCacheService = createService(4);
+
+        todoCacheService.evictOwner("testuser");
+        todoCacheService.flushInvalidations();
+        ArgumentCaptor<TodoCacheInvalidationDto> invalidation = ArgumentCaptor.forClass(TodoCacheInvalidationDto.class);
+        verify(kafkaProducer).sendCacheInvalidation(invalidation.capture());
+
+        getTodos(todoCacheService, "testuser", 0);
+        todoCacheService.applyInvalidation(invalidation.getValue());
+        getTodos(todoCacheService, "testuser", 0);
+
+        // When
+        assertEquals(List.of("testuser"), invalidation.getValue().getOwners());
+        assertEquals(1, loads.get());
+    }
+
+    private TodoCacheServiceImpl createService(long cacheMaxSize) {
+        TodoProperties todoProperties = new TodoProperties();
+        todoProperties.setCacheEnabled(true);
+        todoProperties.setCacheMaxSize(cacheMaxSize);
+        todoProperties.setCacheTtlMs(60000);
+        todoProperties.setCacheInvalidationEnabled(true);
+        todoProperties.setCacheInvalidationBatchMaxSize(100);
+        return new TodoCacheServiceImpl(todoProperties, kafkaProducer, meterRegistry);
+    }
+
+    private List<TodoDto> getTodos(TodoCacheServiceImpl todoCacheService, String owner, int page) {
+        return todoCacheService.getTodos(owner, "all", "", PageRequest.of(page, 10), () -> {
+            loads.incrementAndGet();
+            return List.of(new TodoDto());
+        });
+    }
+}
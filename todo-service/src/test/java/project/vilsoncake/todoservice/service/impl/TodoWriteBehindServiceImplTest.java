@@ -0,0 +1,217 @@
+package project.vilsoncake.todoservice.service.impl;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.util.ObjectBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.http.HttpStatus;
+import project.vilsoncake.todoservice.controller.ErrorHandlerController;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoHitDto;
+import project.vilsoncake.todoservice.exception.TodoWriteRejectedException;
+import project.vilsoncake.todoservice.property.TodoProperties;
+import project.vilsoncake.todoservice.service.TodoCacheService;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoWriteBehindServiceImplTest {
+
+    private final ElasticsearchClient elasticsearchClient = mock(ElasticsearchClient.class);
+    private final TodoCacheService todoCacheService = mock(TodoCacheService.class);
+    private final List<List<BulkOperation>> bulks = new CopyOnWriteArrayList<>();
+    private final List<Refresh> refreshes = new CopyOnWriteArrayList<>();
+    private TodoWriteBehindServiceImpl todoWriteBehindService;
+
+    @AfterEach
+    void stopService() throws Exception {
+        if (todoWriteBehindService != null) {
+            todoWriteBehindService.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Write-behind batch written once batch max size reached test")
+    void index_batchedBySize() throws Exception {
+        mockBulk(Set.of(), null);
+        todoWriteBehindService = startService(2, 3000, 100);
+
+        List<CompletableFuture<Void>> results = List.of(
+                todoWriteBehindService.delete(todoHit()),
+                todoWriteBehindService.delete(todoHit()),
+                todoWriteBehindService.delete(todoHit()),
+                todoWriteBehindService.delete(todoHit())
+        );
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(1500, TimeUnit.MILLISECONDS);
+
+        // When
+        assertEquals(List.of(2, 2), bulks.stream().map(List::size).toList());
+    }
+
+    @Test
+    @DisplayName("Write-behind partial batch written after flush interval test")
+    void index_batchedByInterval() throws Exception {
+        mockBulk(Set.of(), null);
+        todoWriteBehindService = startService(100, 500, 100);
+
+        List<CompletableFuture<Void>> results = List.of(
+                todoWriteBehindService.delete(todoHit()),
+                todoWriteBehindService.delete(todoHit()),
+                todoWriteBehindService.delete(todoHit())
+        );
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // When
+        assertEquals(List.of(3), bulks.stream().map(List::size).toList());
+    }
+
+    @Test
+    @DisplayName("Write-behind write rejected with 503 when queue is full test")
+    void index_queueFull() throws Exception {
+        CountDownLatch bulkStarted = new CountDownLatch(1);
+        CountDownLatch bulkReleased = new CountDownLatch(1);
+        mockBulk(Set.of(), () -> {
+            bulkStarted.countDown();
+            bulkReleased.await();
+        });
+        todoWriteBehindService = startService(1, 10, 1);
+
+        CompletableFuture<Void> firstResult = todoWriteBehindService.delete(todoHit());
+        assertTrue(bulkStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> secondResult = todoWriteBehindService.delete(todoHit());
+        TodoWriteRejectedException exception = assertThrows(TodoWriteRejectedException.class, () -> todoWriteBehindService.delete(todoHit()));
+        bulkReleased.countDown();
+
+        // When
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, new ErrorHandlerController().todoWriteRejectedException(exception).getStatusCode());
+        firstResult.get(5, TimeUnit.SECONDS);
+        secondResult.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Write-behind pending writes flushed on stop and later writes rejected test")
+    void stop_flushesPendingWrites() throws Exception {
+        mockBulk(Set.of(), null);
+        todoWriteBehindService = startService(100, 300, 100);
+
+        List<CompletableFuture<Void>> results = List.of(
+                todoWriteBehindService.delete(todoHit()),
+                todoWriteBehindService.delete(todoHit())
+        );
+        todoWriteBehindService.stop();
+
+        // When
+        assertTrue(results.stream().allMatch(result -> result.isDone() && !result.isCompletedExceptionally()));
+        assertEquals(2, bulks.stream().mapToInt(List::size).sum());
+        assertThrows(TodoWriteRejectedException.class, () -> todoWriteBehindService.delete(todoHit()));
+    }
+
+    @Test
+    @DisplayName("Write-behind bulk item error completes only its write exceptionally test")
+    void index_bulkItemError() throws Exception {
+        TodoHitDto failedTodoHit = todoHit();
+        mockBulk(Set.of(failedTodoHit.getTodo().getId().toString()), null);
+        todoWriteBehindService = startService(2, 3000, 100);
+
+        CompletableFuture<Void> successfulResult = todoWriteBehindService.delete(todoHit());
+        CompletableFuture<Void> failedResult = todoWriteBehindService.delete(failedTodoHit);
+
+        // When
+        successfulResult.get(1500, TimeUnit.MILLISECONDS);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> failedResult.get(1500, TimeUnit.MILLISECONDS));
+        assertInstanceOf(DataAccessResourceFailureException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Write-behind bulk waits for refresh before evicting cached owner pages test")
+    void index_waitsForRefreshBeforeEviction() throws Exception {
+        mockBulk(Set.of(), null);
+        todoWriteBehindService = startService(1, 3000, 100);
+
+        todoWriteBehindService.delete(todoHit()).get(1500, TimeUnit.MILLISECONDS);
+
+        // When
+        assertEquals(List.of(Refresh.WaitFor), refreshes);
+        verify(todoCacheService).evictOwner("testuser");
+    }
+
+    private TodoWriteBehindServiceImpl startService(int batchMaxSize, long flushIntervalMs, int queueCapacity) {
+        TodoProperties todoProperties = new TodoProperties();
+        todoProperties.setWriteBehindEnabled(true);
+        todoProperties.setWriteBehindBatchMaxSize(batchMaxSize);
+        todoProperties.setWriteBehindFlushIntervalMs(flushIntervalMs);
+        todoProperties.setWriteBehindQueueCapacity(queueCapacity);
+        todoProperties.setWriteBehindOfferTimeoutMs(100);
+
+        TodoWriteBehindServiceImpl service = new TodoWriteBehindServiceImpl(
+                elasticsearchClient,
+                mock(ElasticsearchOperations.class),
+                todoCacheService,
+                todoProperties,
+                new SimpleMeterRegistry()
+        );
+        service.start();
+        return service;
+    }
+
+    private void mockBulk(Set<String> failedIds, BulkBarrier barrier) throws Exception {
+        when(elasticsearchClient.bulk(ArgumentMatchers.<Function<BulkRequest.Builder, ObjectBuilder<BulkRequest>>>any())).thenAnswer(invocation -> {
+            Function<BulkRequest.Builder, ObjectBuilder<BulkRequest>> function = invocation.getArgument(0);
+            BulkRequest request = function.apply(new BulkRequest.Builder()).build();
+            List<BulkOperation> operations = request.operations();
+            refreshes.add(request.refresh());
+            if (barrier != null) {
+                barrier.await();
+            }
+            bulks.add(operations);
+
+            List<BulkResponseItem> items = operations.stream()
+                    .map(operation -> operation.delete().id())
+                    .map(id -> failedIds.contains(id)
+                            ? BulkResponseItem.of(i -> i.operationType(OperationType.Delete).index("todo").id(id).status(500)
+                                    .error(e -> e.type("exception").reason("Todo write failed")))
+                            : BulkResponseItem.of(i -> i.operationType(OperationType.Delete).index("todo").id(id).status(200)))
+                    .toList();
+            return BulkResponse.of(b -> b.errors(!failedIds.isEmpty()).took(1).items(items));
+        });
+    }
+
+    private TodoHitDto todoHit() {
+        TodoDocument todo = new TodoDocument();
+        todo.setId(UUID.randomUUID());
+        todo.setTitle("Write-behind todo");
+        todo.setCategory("Home");
+        todo.setText("Write-behind todo text");
+        todo.setCreatedAt(new Date());
+        todo.setOwner("testuser");
+        return new TodoHitDto("todo-000001", 0L, 1L, todo);
+    }
+
+    private interface BulkBarrier {
+        void await() throws InterruptedException;
+    }
+}
@@ -0,0 +1,206 @@
+package project.vilsoncake.todoservice.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import project.vilsoncake.todoservice.document.TodoDocument;
+import project.vilsoncake.todoservice.dto.TodoDocumentPageDto;
+import project.vilsoncake.todoservice.property.TodoProperties;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTodoStorageTest {
+
+    private InMemoryTodoStorage todoStorage;
+
+    @BeforeEach
+    void createStorage() {
+        TodoProperties todoProperties = new TodoProperties();
+        todoProperties.setInMemorySearchFuzzyEnabled(true);
+        todoProperties.setSearchFuzzyPrefixLength(1);
+        todoProperties.setSearchFuzzyMaxExpansions(10);
+        todoProperties.setStatsCategoriesMaxSize(100);
+        todoStorage = new InMemoryTodoStorage(todoProperties);
+    }
+
+    @Test
+    @DisplayName("Find all owner todos by offset test")
+    void findAll_offset() {
+        for (int i = 0; i < 5; i++) {
+            todoStorage.save(todo("testuser", "Todo " + i, "Todo text", i));
+        }
+
+        List<TodoDocument> firstPage = todoStorage.findAll("TestUser", null, null, null, null, 0, 2);
+        List<TodoDocument> secondPage = todoStorage.findAll("testuser", null, null, null, null, 2, 2);
+        List<TodoDocument> lastPage = todoStorage.findAll("testuser", null, null, null, null, 4, 2);
+
+        // When
+        assertEquals(List.of("Todo 4", "Todo 3"), firstPage.stream().map(TodoDocument::getTitle).toList());
+        assertEquals(List.of("Todo 2", "Todo 1"), secondPage.stream().map(TodoDocument::getTitle).toList());
+        assertEquals(List.of("Todo 0"), lastPage.stream().map(TodoDocument::getTitle).toList());
+        assertTrue(todoStorage.findAll("testuser", null, null, null, null, 5, 2).isEmpty());
+        assertTrue(todoStorage.findAll("unknown", null, null, null, null, 0, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Search owner todos by offset test")
+    void search_offset() {
+        for (int i = 0; i < 3; i++) {
+            todoStorage.save(todo("testuser", "Groceries " + i, "Weekly shopping", i));
+        }
+
+        List<TodoDocument> firstPage = todoStorage.search("testuser", "groceries", 0, 2);
+        List<TodoDocument> secondPage = todoStorage.search("testuser", "groceries", 2, 2);
+
+        // When
+        assertEquals(List.of("Groceries 2", "Groceries 1"), firstPage.stream().map(TodoDocument::getTitle).toList());
+        assertEquals(List.of("Groceries 0"), secondPage.stream().map(TodoDocument::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("Find all owner todos after cursor test")
+    void findAll_searchAfter() {
+        for (int i = 0; i < 5; i++) {
+            todoStorage.save(todo("testuser", "Todo " + i, "Todo text", i));
+        }
+
+        TodoDocumentPageDto firstPage = todoStorage.findAll("testuser", null, null, null, null, null, 2);
+        todoStorage.save(todo("testuser", "Todo 5", "Todo text", 5));
+        TodoDocumentPageDto secondPage = todoStorage.findAll("testuser", null, null, null, null, firstPage.getSearchAfter(), 2);
+        TodoDocumentPageDto lastPage = todoStorage.findAll("testuser", null, null, null, null, secondPage.getSearchAfter(), 2);
+
+        // When
+        assertEquals(List.of("Todo 4", "Todo 3"), firstPage.getTodos().stream().map(TodoDocument::getTitle).toList());
+        assertEquals(List.of("Todo 2", "Todo 1"), secondPage.getTodos().stream().map(TodoDocument::getTitle).toList());
+        assertEquals(List.of("Todo 0"), lastPage.getTodos().stream().map(TodoDocument::getTitle).toList());
+        assertNull(lastPage.getSearchAfter());
+    }
+
+    @Test
+    @DisplayName("Search owner todos after cursor test")
+    void search_searchAfter() {
+        for (int i = 0; i < 3; i++) {
+            todoStorage.save(todo("testuser", "Groceries " + i, "Weekly shopping", i));
+        }
+        todoStorage.save(todo("testuser", "Weekend", "Groceries and bakery", 3));
+
+        TodoDocumentPageDto firstPage = todoStorage.search("testuser", "groceries", null, 2);
+        todoStorage.save(todo("testuser", "Groceries 4", "Weekly shopping", 4));
+        TodoDocumentPageDto secondPage = todoStorage.search("testuser", "groceries", firstPage.getSearchAfter(), 2);
+
+        // When
+        assertEquals(List.of("Groceries 2", "Groceries 1"), firstPage.getTodos().stream().map(TodoDocument::getTitle).toList());
+        assertEquals(List.of("Groceries 0", "Weekend"), secondPage.getTodos().stream().map(TodoDocument::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("Highlight searched owner todos test")
+    void highlight() {
+        TodoDocument titleMatch = todo("testuser", "Buy groceries", "Milk and bread", 1);
+        TodoDocument fuzzyMatch = todo("testuser", "Weekend", "Groceries and bakery", 2);
+        todoStorage.save(titleMatch);
+        todoStorage.save(fuzzyMatch);
+
+        Map<UUID, Map<String, List<String>>> highlights = todoStorage.highlight("testuser", "grocries", List.of(titleMatch, fuzzyMatch));
+
+        // When
+        assertEquals(List.of("Buy <em>groceries</em>"), highlights.get(titleMatch.getId()).get("title"));
+        assertEquals(List.of("Milk and bread"), highlights.get(titleMatch.getId()).get("text"));
+        assertNull(highlights.get(fuzzyMatch.getId()).get("title"));
+        assertEquals(List.of("<em>Groceries</em> and bakery"), highlights.get(fuzzyMatch.getId()).get("text"));
+    }
+
+    @Test
+    @DisplayName("Returned todos are copies of stored todos test")
+    void findById_returnsCopy() {
+        TodoDocument todo = todo("testuser", "Buy groceries", "Milk", 1);
+        todoStorage.save(todo);
+
+        TodoDocument found = todoStorage.findById("testuser", todo.getId()).orElseThrow();
+        found.setTitle("Changed title");
+
+        // When
+        assertEquals("Buy groceries", todoStorage.findById("testuser", todo.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    @DisplayName("Change owner merges todos and title sequences into existing owner test")
+    void changeOwner_mergesIntoExistingOwner() {
+        todoStorage.reserveTitle("olduser", "Buy groceries", 3);
+        todoStorage.save(todo("olduser", "Buy groceries", "Milk", 1));
+        todoStorage.save(todo("olduser", "Buy groceries (1)", "Bread", 2));
+        todoStorage.save(todo("olduser", "Buy groceries (2)", "Eggs", 3));
+        todoStorage.reserveTitle("newuser", "Buy groceries", 1);
+        todoStorage.save(todo("newuser", "Buy groceries", "Butter", 4));
+
+        long processed = todoStorage.changeOwner("OldUser", "newuser");
+
+        // When
+        assertEquals(3, processed);
+        assertTrue(todoStorage.findAll("olduser", null, null, null, null, 0, 10).isEmpty());
+        assertEquals(4, todoStorage.getStats("newuser").getTotal());
+        assertTrue(todoStorage.findAll("newuser", null, null, null, null, 0, 10).stream()
+                .allMatch(todo -> todo.getOwner().equals("newuser")));
+        assertTrue(todoStorage.findByTitle("newuser", "Buy groceries (2)").isPresent());
+        assertEquals(3, todoStorage.reserveTitle("newuser", "Buy groceries", 1));
+    }
+
+    @Test
+    @DisplayName("Change owner does not lose concurrent writes test")
+    void changeOwner_concurrentWrites() throws Exception {
+        int writes = 20000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < writes; i++) {
+            int createdAt = i;
+            results.add(executor.submit(() -> todoStorage.save(todo("olduser", "Todo " + createdAt, "Todo text", createdAt))));
+        }
+        while (!results.get(writes - 1).isDone()) {
+            todoStorage.changeOwner("olduser", "newuser");
+        }
+        for (Future<?> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // When
+        assertEquals(writes, todoStorage.getStats("newuser").getTotal() + todoStorage.getStats("olduser").getTotal());
+    }
+
+    @Test
+    @DisplayName("Remove owner todos test")
+    void removeOwner() {
+        todoStorage.save(todo("testuser", "Buy groceries", "Milk", 1));
+        todoStorage.save(todo("testuser", "Call mom", "Sunday", 2));
+
+        long processed = todoStorage.removeOwner("testuser");
+
+        // When
+        assertEquals(2, processed);
+        assertEquals(0, todoStorage.getStats("testuser").getTotal());
+        assertEquals(0, todoStorage.removeOwner("testuser"));
+    }
+
+    private TodoDocument todo(String owner, String title, String text, long createdAt) {
+        TodoDocument todo = new TodoDocument();
+        todo.setId(UUID.randomUUID());
+        todo.setTitle(title);
+        todo.setCategory("Home");
+        todo.setText(text);
+        todo.setCreatedAt(new Date(createdAt));
+        todo.setCompleted(false);
+        todo.setOwner(owner);
+        return todo;
+    }
+}
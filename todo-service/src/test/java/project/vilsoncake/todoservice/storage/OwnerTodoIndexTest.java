@@ -0,0 +1,153 @@
+package project.vilsoncake.todoservice.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import project.vilsoncake.todoservice.document.TodoDocument;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OwnerTodoIndexTest {
+
+    private final OwnerTodoIndex index = new OwnerTodoIndex();
+
+    @Test
+    @DisplayName("Add todo to owner index test")
+    void add_indexesTodo() {
+        TodoDocument todo = todo("Buy groceries", "Home", "Milk and bread", false, 1);
+
+        index.add(todo);
+
+        // When
+        assertSame(todo, index.get(todo.getId()));
+        assertSame(todo, index.getByTitle("  buy GROCERIES "));
+        assertEquals(List.of(todo), index.findAll(false, "home", null, null));
+        assertTrue(index.findAll(true, null, null, null).isEmpty());
+        assertEquals(1, index.getStats(10).getTotal());
+    }
+
+    @Test
+    @DisplayName("Remove todo from owner index test")
+    void remove_unindexesTodo() {
+        TodoDocument todo = todo("Buy groceries", "Home", "Milk and bread", true, 1);
+        index.add(todo);
+
+        TodoDocument removed = index.remove(todo.getId());
+
+        // When
+        assertSame(todo, removed);
+        assertNull(index.get(todo.getId()));
+        assertNull(index.getByTitle("Buy groceries"));
+        assertNull(index.remove(todo.getId()));
+        assertTrue(index.search("milk", false, 1, 10).isEmpty());
+        assertTrue(index.suggestTitles("buy").isEmpty());
+        assertEquals(0, index.getStats(10).getTotal());
+        assertTrue(index.getStats(10).getCategories().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Removed todo slot reused without stale postings test")
+    void add_reusesRemovedSlot() {
+        TodoDocument first = todo("Buy groceries", "Home", "Milk and bread", false, 1);
+        TodoDocument removed = todo("Fix bike", "Garage", "Chain and brakes", true, 2);
+        TodoDocument third = todo("Call mom", "Family", "Sunday call", false, 3);
+        index.add(first);
+        index.add(removed);
+        index.add(third);
+        index.remove(removed.getId());
+
+        TodoDocument reused = todo("Write report", "Work", "Quarterly numbers", false, 4);
+        index.add(reused);
+
+        // When
+        assertTrue(index.search("chain", false, 1, 10).isEmpty());
+        assertTrue(index.findAll(true, null, null, null).isEmpty());
+        assertTrue(index.findAll(null, "garage", null, null).isEmpty());
+        assertEquals(List.of(reused), index.search("quarterly", false, 1, 10));
+        assertEquals(List.of(reused, third, first), index.all());
+    }
+
+    @Test
+    @DisplayName("Todos with duplicate titles do not overwrite each other test")
+    void add_duplicateTitles() {
+        TodoDocument first = todo("Buy groceries", "Home", "Milk", false, 1);
+        TodoDocument second = todo("buy groceries", "Home", "Bread", false, 2);
+        index.add(first);
+        index.add(second);
+
+        index.remove(first.getId());
+
+        // When
+        assertSame(second, index.getByTitle("Buy groceries"));
+    }
+
+    @Test
+    @DisplayName("Search todos ranks title matches above text matches test")
+    void search_ranksTitleMatches() {
+        TodoDocument textMatch = todo("Weekend", "Home", "Paint the fence", false, 2);
+        TodoDocument titleMatch = todo("Paint garage", "Home", "Two coats", false, 1);
+        index.add(textMatch);
+        index.add(titleMatch);
+
+        // When
+        assertEquals(List.of(titleMatch, textMatch), index.search("paint", false, 1, 10));
+    }
+
+    @Test
+    @DisplayName("Search todos with fuzzy expansions test")
+    void search_fuzzy() {
+        TodoDocument todo = todo("Buy groceries", "Home", "Milk and bread", false, 1);
+        index.add(todo);
+        index.add(todo("Call mom", "Family", "Sunday call", false, 2));
+
+        // When
+        assertTrue(index.search("grocries", false, 1, 10).isEmpty());
+        assertEquals(List.of(todo), index.search("grocries", true, 1, 10));
+        assertTrue(index.search("rocries", true, 1, 10).isEmpty());
+        assertTrue(index.search("grocries", true, 1, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Suggest todo titles by prefix test")
+    void suggestTitles() {
+        index.add(todo("Buy groceries", "Home", "Milk", false, 1));
+        index.add(todo("Buy garden tools", "Home", "Rake", false, 2));
+        index.add(todo("Buy tickets", "Home", "Train", false, 3));
+
+        // When
+        assertEquals(List.of("Buy garden tools", "Buy groceries"), index.suggestTitles("buy g"));
+        assertEquals(List.of("Buy groceries"), index.suggestTitles("buy gro"));
+        assertTrue(index.suggestTitles("sell").isEmpty());
+        assertTrue(index.suggestTitles(" ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Reserve and merge todo title sequences test")
+    void reserveTitle_mergesSequences() {
+        long first = index.reserveTitle("Buy groceries", 2);
+        long second = index.reserveTitle("BUY GROCERIES", 1);
+        index.mergeTitleSequences(Map.of("buy groceries", 1L, "call mom", 4L));
+
+        // When
+        assertEquals(0, first);
+        assertEquals(2, second);
+        assertEquals(3, index.reserveTitle("buy groceries", 1));
+        assertEquals(4, index.reserveTitle("call mom", 1));
+    }
+
+    private TodoDocument todo(String title, String category, String text, boolean completed, long createdAt) {
+        TodoDocument todo = new TodoDocument();
+        todo.setId(UUID.randomUUID());
+        todo.setTitle(title);
+        todo.setCategory(category);
+        todo.setText(text);
+        todo.setCreatedAt(new Date(createdAt));
+        todo.setCompleted(completed);
+        todo.setOwner("testuser");
+        return todo;
+    }
+}